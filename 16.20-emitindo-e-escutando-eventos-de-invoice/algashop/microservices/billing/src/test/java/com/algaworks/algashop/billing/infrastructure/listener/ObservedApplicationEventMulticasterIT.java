@@ -0,0 +1,58 @@
+package com.algaworks.algashop.billing.infrastructure.listener;
+
+import com.algaworks.algashop.billing.domain.model.invoice.InvoiceIssuedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@SpringBootTest
+class ObservedApplicationEventMulticasterIT {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void shouldRecordInvoiceEventListenerTimings() {
+        long published = publishCount();
+        long listened = listenerCount();
+
+        applicationEventPublisher.publishEvent(
+                new InvoiceIssuedEvent(UUID.randomUUID(), UUID.randomUUID(), "01226N0640J7Q", OffsetDateTime.now()));
+
+        Assertions.assertThat(publishCount()).isEqualTo(published + 1);
+        Assertions.assertThat(listenerCount()).isEqualTo(listened + 1);
+    }
+
+    @Test
+    public void shouldNotObserveFrameworkEvents() {
+        Assertions.assertThat(meterRegistry.find("algashop.events.publish")
+                .tag("event", "ContextRefreshedEvent")
+                .timer()).isNull();
+    }
+
+    private long publishCount() {
+        Timer timer = meterRegistry.find("algashop.events.publish")
+                .tag("event", "InvoiceIssuedEvent")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private long listenerCount() {
+        Timer timer = meterRegistry.find("algashop.events.listener")
+                .tag("event", "InvoiceIssuedEvent")
+                .tag("listener", "InvoiceEventListener.listen")
+                .tag("error", "none")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
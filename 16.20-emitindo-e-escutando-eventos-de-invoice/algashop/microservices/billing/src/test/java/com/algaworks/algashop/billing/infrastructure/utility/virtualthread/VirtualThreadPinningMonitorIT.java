@@ -0,0 +1,63 @@
+package com.algaworks.algashop.billing.infrastructure.utility.virtualthread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadPinningMonitorIT {
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void shouldMonitorPinningAndRunTasksOnVirtualThreadsWhenEnabled() throws Exception {
+        Future<Boolean> isVirtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual());
+
+        Assertions.assertThat(pinningMonitor.isRunning()).isTrue();
+        Assertions.assertThat(isVirtual.get()).isTrue();
+    }
+
+    @Test
+    public void shouldCountPinnedVirtualThreads() throws Exception {
+        Object lock = new Object();
+
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(Duration.ofMillis(100));
+            }
+        }).join();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pinnedCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        Assertions.assertThat(pinnedCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    private double pinnedCount() {
+        return meterRegistry.get("algashop.virtual-threads.pinned").counter().count();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.algaworks.algashop.ordering.domain.model.commons;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MoneyBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private Money[] prices;
+    private Quantity[] quantities;
+    private BigDecimal[] bigDecimalPrices;
+
+    @Setup
+    public void setup() {
+        prices = new Money[items];
+        quantities = new Quantity[items];
+        bigDecimalPrices = new BigDecimal[items];
+        for (int i = 0; i < items; i++) {
+            prices[i] = new Money(String.valueOf(10 + i) + ".99");
+            quantities[i] = new Quantity(i % 5 + 1);
+            bigDecimalPrices[i] = prices[i].value();
+        }
+    }
+
+    @Benchmark
+    public Money multiplyAndAdd() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < items; i++) {
+            total = total.add(prices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    /*
+     * Baseline with the arithmetic Money performed before it was backed by a long.
+     */
+    @Benchmark
+    public BigDecimal bigDecimalMultiplyAndAdd() {
+        BigDecimal total = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_EVEN);
+        for (int i = 0; i < items; i++) {
+            BigDecimal multiplied = bigDecimalPrices[i].multiply(new BigDecimal(quantities[i].value()))
+                    .setScale(2, RoundingMode.HALF_EVEN);
+            total = total.add(multiplied).setScale(2, RoundingMode.HALF_EVEN);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money add() {
+        Money total = Money.ZERO;
+        for (Money price : prices) {
+            total = total.add(price);
+        }
+        return total;
+    }
+
+}
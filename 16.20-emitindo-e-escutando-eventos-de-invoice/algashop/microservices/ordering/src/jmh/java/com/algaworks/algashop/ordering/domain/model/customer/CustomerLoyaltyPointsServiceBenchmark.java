@@ -0,0 +1,56 @@
+package com.algaworks.algashop.ordering.domain.model.customer;
+
+import com.algaworks.algashop.ordering.domain.model.order.Order;
+import com.algaworks.algashop.ordering.domain.model.order.OrderStatus;
+import com.algaworks.algashop.ordering.domain.model.order.OrderTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Points accumulate on the customer and would overflow if one customer were reused, so each
+ * iteration prepares a fresh customer per operation and runs them all in a single shot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerLoyaltyPointsServiceBenchmark {
+
+    private static final int CUSTOMERS = 10_000;
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private final CustomerLoyaltyPointsService loyaltyPointsService = new CustomerLoyaltyPointsService();
+
+    private List<Order> readyOrders;
+    private Customer[] customers;
+
+    @Setup
+    public void setup() {
+        readyOrders = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            readyOrders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.READY).build());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void newCustomers() {
+        customers = new Customer[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customers[i] = CustomerTestDataBuilder.existingCustomer().build();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CUSTOMERS)
+    public Customer[] addPoints() {
+        for (Customer customer : customers) {
+            loyaltyPointsService.addPoints(customer, readyOrders);
+        }
+        return customers;
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.algaworks.algashop.ordering.domain.model.order;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
+import com.algaworks.algashop.ordering.domain.model.customer.Customer;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.customer.LoyaltyPoints;
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductName;
+import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCart;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Year;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Checkout empties the cart, so each iteration fills one cart per operation and checks them all
+ * out in a single shot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CheckoutServiceBenchmark {
+
+    private static final int CARTS = 1_000;
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private CheckoutService checkoutService;
+    private Customer customer;
+    private Billing billing;
+    private Shipping shipping;
+    private Product[] products;
+    private ShoppingCart[] shoppingCarts;
+
+    @Setup
+    public void setup() {
+        var specification = new CustomerHaveFreeShippingSpecification(
+                new FixedSalesOrders(),
+                new LoyaltyPoints(100),
+                2L,
+                new LoyaltyPoints(2000)
+        );
+        checkoutService = new CheckoutService(specification);
+        customer = CustomerTestDataBuilder.existingCustomer().build();
+        billing = OrderTestDataBuilder.aBilling();
+        shipping = OrderTestDataBuilder.aShipping();
+
+        products = new Product[items];
+        for (int i = 0; i < items; i++) {
+            products[i] = ProductTestDataBuilder.aProduct()
+                    .id(new ProductId())
+                    .name(new ProductName("Product " + i))
+                    .price(new Money(String.valueOf(10 + i)))
+                    .build();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fillShoppingCarts() {
+        shoppingCarts = new ShoppingCart[CARTS];
+        for (int i = 0; i < CARTS; i++) {
+            shoppingCarts[i] = ShoppingCart.startShopping(customer.id());
+            for (Product product : products) {
+                shoppingCarts[i].addItem(product, new Quantity(2));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CARTS)
+    public void checkout(Blackhole blackhole) {
+        for (ShoppingCart shoppingCart : shoppingCarts) {
+            blackhole.consume(checkoutService.checkout(customer, shoppingCart, billing, shipping, PaymentMethod.CREDIT_CARD));
+        }
+    }
+
+    private static class FixedSalesOrders implements Orders {
+
+        @Override
+        public Optional<Order> ofId(OrderId orderId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Order> ofIds(Collection<OrderId> orderIds) {
+            return List.of();
+        }
+
+        @Override
+        public boolean exists(OrderId orderId) {
+            return false;
+        }
+
+        @Override
+        public void add(Order aggregateRoot) {
+        }
+
+        @Override
+        public void addAll(Collection<Order> aggregateRoots) {
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public List<Order> placedByCustomerInYear(CustomerId customerId, Year year) {
+            return List.of();
+        }
+
+        @Override
+        public long salesQuantityByCustomerInYear(CustomerId customerId, Year year) {
+            return 1;
+        }
+
+        @Override
+        public Money totalSoldForCustomer(CustomerId customerId) {
+            return Money.ZERO;
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.algaworks.algashop.ordering.domain.model.order;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductName;
+import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private Product[] products;
+    private Order order;
+    private OrderItemId changedItemId;
+    private int quantity;
+
+    @Setup
+    public void setup() {
+        products = new Product[items];
+        for (int i = 0; i < items; i++) {
+            products[i] = ProductTestDataBuilder.aProduct()
+                    .id(new ProductId())
+                    .name(new ProductName("Product " + i))
+                    .price(new Money(String.valueOf(10 + i)))
+                    .build();
+        }
+
+        order = OrderTestDataBuilder.anOrder().withItems(false).build();
+        for (Product product : products) {
+            order.addItem(product, new Quantity(1));
+        }
+        changedItemId = order.items().iterator().next().id();
+    }
+
+    @Benchmark
+    public Order addItems() {
+        Order draft = OrderTestDataBuilder.anOrder().withItems(false).build();
+        for (Product product : products) {
+            draft.addItem(product, new Quantity(2));
+        }
+        return draft;
+    }
+
+    @Benchmark
+    public Order changeItemQuantity() {
+        quantity = quantity % 10 + 1;
+        order.changeItemQuantity(changedItemId, new Quantity(quantity));
+        return order;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.algaworks.algashop.ordering.domain.model.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductName;
+import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShoppingCartBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private Product[] products;
+
+    @Setup
+    public void setup() {
+        products = new Product[items];
+        for (int i = 0; i < items; i++) {
+            products[i] = ProductTestDataBuilder.aProduct()
+                    .id(new ProductId())
+                    .name(new ProductName("Product " + i))
+                    .price(new Money(String.valueOf(10 + i)))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ShoppingCart addItems() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        for (Product product : products) {
+            cart.addItem(product, new Quantity(2));
+        }
+        return cart;
+    }
+
+    @Benchmark
+    public ShoppingCart addSameProductRepeatedly() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        for (int i = 0; i < items; i++) {
+            cart.addItem(products[0], new Quantity(1));
+        }
+        return cart;
+    }
+
+}
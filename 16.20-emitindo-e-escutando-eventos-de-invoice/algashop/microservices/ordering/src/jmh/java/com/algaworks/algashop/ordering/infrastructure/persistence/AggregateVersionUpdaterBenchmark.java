@@ -0,0 +1,42 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence;
+
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.order.Order;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AggregateVersionUpdaterBenchmark {
+
+    private static final AggregateVersionUpdater<Order> versionUpdater = AggregateVersionUpdater.of(Order.class);
+
+    private Order order;
+    private Long version;
+
+    @Setup
+    public void setup() {
+        order = Order.draft(new CustomerId());
+        version = 1L;
+    }
+
+    @Benchmark
+    public Order reflectionField() throws NoSuchFieldException {
+        Field field = order.getClass().getDeclaredField("version");
+        field.setAccessible(true);
+        ReflectionUtils.setField(field, order, version);
+        field.setAccessible(false);
+        return order;
+    }
+
+    @Benchmark
+    public Order cachedVarHandle() {
+        versionUpdater.update(order, version);
+        return order;
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Runs against the schema Hibernate generates from the entity mappings, so the benchmark
+ * measures the index the application really gets. Hibernate is bootstrapped directly because
+ * the benchmark jar does not carry a usable Spring Boot auto-configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalesByCustomerInYearQueryBenchmark {
+
+    private static final int CUSTOMERS = 200;
+    private static final int ORDERS_PER_CUSTOMER = 1_000;
+    private static final int FIRST_YEAR = 2016;
+    private static final int YEARS = 10;
+
+    private static final String INDEX_NAME = "idx_order_customer_id_placed_at";
+
+    private static final String YEAR_FUNCTION_JPQL = """
+            SELECT COUNT(o) FROM OrderPersistenceEntity o
+            WHERE o.customer.id = :customerId AND YEAR(o.placedAt) = :year
+            AND o.paidAt IS NOT NULL AND o.canceledAt IS NULL""";
+
+    private static final String PLACED_AT_RANGE_JPQL = """
+            SELECT COUNT(o) FROM OrderPersistenceEntity o
+            WHERE o.customer.id = :customerId AND o.placedAt >= :placedFrom AND o.placedAt < :placedUntil
+            AND o.paidAt IS NOT NULL AND o.canceledAt IS NULL""";
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TypedQuery<Long> yearFunctionQuery;
+    private TypedQuery<Long> placedAtRangeQuery;
+
+    private final List<UUID> customerIds = new ArrayList<>();
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(CustomerPersistenceEntity.class)
+                .addAnnotatedClass(OrderPersistenceEntity.class)
+                .addAnnotatedClass(OrderItemPersistenceEntity.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:sales-benchmark;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create")
+                .buildSessionFactory();
+
+        entityManager = sessionFactory.createEntityManager();
+
+        verifyIndexExists();
+        populate();
+
+        yearFunctionQuery = entityManager.createQuery(YEAR_FUNCTION_JPQL, Long.class);
+        placedAtRangeQuery = entityManager.createQuery(PLACED_AT_RANGE_JPQL, Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long yearFunction() {
+        return yearFunctionQuery
+                .setParameter("customerId", randomCustomer())
+                .setParameter("year", randomYear().getValue())
+                .getSingleResult();
+    }
+
+    @Benchmark
+    public long placedAtRange() {
+        Year year = randomYear();
+        return placedAtRangeQuery
+                .setParameter("customerId", randomCustomer())
+                .setParameter("placedFrom", year.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC))
+                .setParameter("placedUntil", year.plusYears(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC))
+                .getSingleResult();
+    }
+
+    private void verifyIndexExists() {
+        Number indexes = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM information_schema.indexes WHERE LOWER(index_name) = :indexName")
+                .setParameter("indexName", INDEX_NAME)
+                .getSingleResult();
+        if (indexes.intValue() == 0) {
+            throw new IllegalStateException("Hibernate did not create " + INDEX_NAME);
+        }
+    }
+
+    private void populate() {
+        long id = 0;
+        for (int c = 0; c < CUSTOMERS; c++) {
+            entityManager.getTransaction().begin();
+
+            CustomerPersistenceEntity customer = CustomerPersistenceEntity.builder()
+                    .id(UUID.randomUUID())
+                    .firstName("John")
+                    .lastName("Doe")
+                    .email("customer" + c + "@email.com")
+                    .archived(false)
+                    .promotionNotificationsAllowed(false)
+                    .loyaltyPoints(0)
+                    .registeredAt(OffsetDateTime.now())
+                    .build();
+            entityManager.persist(customer);
+            customerIds.add(customer.getId());
+
+            for (int o = 0; o < ORDERS_PER_CUSTOMER; o++) {
+                OffsetDateTime placedAt = OffsetDateTime.of(FIRST_YEAR, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)
+                        .plusMinutes(random.nextLong(YEARS * 525_600L));
+                entityManager.persist(OrderPersistenceEntity.builder()
+                        .id(++id)
+                        .customer(customer)
+                        .status("PLACED")
+                        .placedAt(placedAt)
+                        .paidAt(random.nextInt(10) < 8 ? placedAt.plusHours(1) : null)
+                        .canceledAt(random.nextInt(10) == 0 ? placedAt.plusDays(1) : null)
+                        .build());
+            }
+
+            entityManager.getTransaction().commit();
+            entityManager.clear();
+        }
+    }
+
+    private UUID randomCustomer() {
+        return customerIds.get(random.nextInt(CUSTOMERS));
+    }
+
+    private Year randomYear() {
+        return Year.of(FIRST_YEAR + random.nextInt(YEARS));
+    }
+}
@@ -0,0 +1,102 @@
+package com.algaworks.algashop.ordering.infrastructure.shipping.client.rapidex;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Load test for the blocking RapiDex call as issued from request threads: a burst of concurrent
+ * quotes against a local stub answering in 200 ms, served either by a Tomcat-sized platform pool
+ * or by one virtual thread per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+    private static final byte[] QUOTE = "{\"deliveryCost\": \"35.00\", \"estimatedDaysToDeliver\": \"7\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    public enum ThreadingMode { PLATFORM, VIRTUAL }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ThreadingMode threadingMode;
+
+    @Param({"1000"})
+    private int concurrentRequests;
+
+    private HttpServer rapiDex;
+    private ExecutorService rapiDexExecutor;
+    private CloseableHttpClient httpClient;
+    private RapiDexAPIClient rapiDexAPIClient;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(concurrentRequests));
+        rapiDexExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        rapiDex = HttpServer.create(new InetSocketAddress("localhost", 0), concurrentRequests * 2);
+        rapiDex.setExecutor(rapiDexExecutor);
+        rapiDex.createContext("/api/delivery-cost", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(200);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, QUOTE.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(QUOTE);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        rapiDex.start();
+
+        RapiDexAPIClientConfig config = new RapiDexAPIClientConfig();
+        httpClient = config.rapiDexHttpClient(Duration.ofSeconds(5), Duration.ofSeconds(10), concurrentRequests);
+        rapiDexAPIClient = config.rapidexApiClient(RestClient.builder(), httpClient,
+                "http://localhost:" + rapiDex.getAddress().getPort());
+
+        executor = threadingMode == ThreadingMode.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        httpClient.close();
+        rapiDex.stop(0);
+        rapiDexExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int concurrentQuotes() throws ExecutionException, InterruptedException {
+        List<Future<DeliveryCostResponse>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(executor.submit(() ->
+                    rapiDexAPIClient.calculate(new DeliveryCostRequest("12345", "54321"))));
+        }
+
+        int delivered = 0;
+        for (Future<DeliveryCostResponse> response : responses) {
+            delivered += response.get().getEstimatedDaysToDeliver() > 0 ? 1 : 0;
+        }
+        return delivered;
+    }
+}
@@ -0,0 +1,136 @@
+package com.algaworks.algashop.ordering.infrastructure.utility.mapper;
+
+import com.algaworks.algashop.ordering.application.order.query.OrderDetailOutput;
+import com.algaworks.algashop.ordering.application.shoppingcart.query.ShoppingCartOutput;
+import com.algaworks.algashop.ordering.application.utility.Mapper;
+import com.algaworks.algashop.ordering.domain.model.IdGenerator;
+import com.algaworks.algashop.ordering.infrastructure.persistence.commons.AddressEmbeddable;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.*;
+import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartItemPersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.utility.modelmapper.ModelMapperConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Throughput of a detail conversion with each Mapper implementation; the gc profiler configured
+ * for the jmh task reports the allocation per conversion (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapperBenchmark {
+
+    @Param({"MODEL_MAPPER", "SPECIALIZED"})
+    private String implementation;
+
+    @Param({"3", "20"})
+    private int items;
+
+    private Mapper mapper;
+    private OrderPersistenceEntity order;
+    private ShoppingCartPersistenceEntity shoppingCart;
+
+    @Setup
+    public void setup() {
+        mapper = implementation.equals("SPECIALIZED") ? new SpecializedMapper() : new ModelMapperConfig().mapper();
+
+        CustomerPersistenceEntity customer = CustomerPersistenceEntity.builder()
+                .id(IdGenerator.generateTimeBasedUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .email("johndoe@email.com")
+                .document("255-08-0578")
+                .phone("478-256-2604")
+                .build();
+
+        Set<OrderItemPersistenceEntity> orderItems = new HashSet<>();
+        Set<ShoppingCartItemPersistenceEntity> shoppingCartItems = new HashSet<>();
+        for (int i = 0; i < items; i++) {
+            orderItems.add(OrderItemPersistenceEntity.builder()
+                    .id(IdGenerator.generateTSID().toLong())
+                    .productId(IdGenerator.generateTimeBasedUUID())
+                    .productName("Product " + i)
+                    .price(new BigDecimal("10.00"))
+                    .quantity(2)
+                    .totalAmount(new BigDecimal("20.00"))
+                    .build());
+            shoppingCartItems.add(ShoppingCartItemPersistenceEntity.builder()
+                    .id(IdGenerator.generateTimeBasedUUID())
+                    .productId(IdGenerator.generateTimeBasedUUID())
+                    .name("Product " + i)
+                    .price(new BigDecimal("10.00"))
+                    .quantity(2)
+                    .totalAmount(new BigDecimal("20.00"))
+                    .available(true)
+                    .build());
+        }
+
+        order = OrderPersistenceEntity.builder()
+                .id(IdGenerator.generateTSID().toLong())
+                .customer(customer)
+                .totalItems(items * 2)
+                .totalAmount(new BigDecimal("20.00").multiply(BigDecimal.valueOf(items)))
+                .status("PAID")
+                .paymentMethod("CREDIT_CARD")
+                .placedAt(OffsetDateTime.now())
+                .paidAt(OffsetDateTime.now())
+                .billing(BillingEmbeddable.builder()
+                        .firstName("John")
+                        .lastName("Doe")
+                        .document("255-08-0578")
+                        .phone("478-256-2604")
+                        .address(anAddress())
+                        .build())
+                .shipping(ShippingEmbeddable.builder()
+                        .cost(new BigDecimal("10.00"))
+                        .expectedDate(LocalDate.now().plusWeeks(1))
+                        .recipient(RecipientEmbeddable.builder()
+                                .firstName("John")
+                                .lastName("Doe")
+                                .document("255-08-0578")
+                                .phone("478-256-2604")
+                                .build())
+                        .address(anAddress())
+                        .build())
+                .items(orderItems)
+                .build();
+
+        shoppingCart = ShoppingCartPersistenceEntity.builder()
+                .id(IdGenerator.generateTimeBasedUUID())
+                .customer(customer)
+                .totalItems(items * 2)
+                .totalAmount(new BigDecimal("20.00").multiply(BigDecimal.valueOf(items)))
+                .items(shoppingCartItems)
+                .build();
+    }
+
+    @Benchmark
+    public OrderDetailOutput orderDetail() {
+        return mapper.convert(order, OrderDetailOutput.class);
+    }
+
+    @Benchmark
+    public ShoppingCartOutput shoppingCart() {
+        return mapper.convert(shoppingCart, ShoppingCartOutput.class);
+    }
+
+    private static AddressEmbeddable anAddress() {
+        return AddressEmbeddable.builder()
+                .street("Bourbon Street")
+                .number("1134")
+                .complement("Apt. 114")
+                .neighborhood("North Ville")
+                .city("York")
+                .state("South California")
+                .zipCode("12345")
+                .build();
+    }
+}
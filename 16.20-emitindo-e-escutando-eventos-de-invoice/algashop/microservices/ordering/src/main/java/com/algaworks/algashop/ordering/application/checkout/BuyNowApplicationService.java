@@ -1,5 +1,7 @@
 package com.algaworks.algashop.ordering.application.checkout;
 
+import com.algaworks.algashop.ordering.application.utility.LookupExecutor;
+import com.algaworks.algashop.ordering.application.utility.LookupScope;
 import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
 import com.algaworks.algashop.ordering.domain.model.commons.ZipCode;
 import com.algaworks.algashop.ordering.domain.model.customer.Customer;
@@ -15,9 +17,10 @@ import com.algaworks.algashop.ordering.domain.model.product.ProductId;
 import com.algaworks.algashop.ordering.domain.model.product.ProductNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -35,7 +38,9 @@ public class BuyNowApplicationService {
     private final ShippingInputDisassembler shippingInputDisassembler;
     private final BillingInputDisassembler billingInputDisassembler;
 
-    @Transactional
+    private final LookupExecutor lookupExecutor;
+    private final TransactionTemplate transactionTemplate;
+
     public String buyNow(BuyNowInput input) {
         Objects.requireNonNull(input);
 
@@ -43,22 +48,33 @@ public class BuyNowApplicationService {
         CustomerId customerId = new CustomerId(input.getCustomerId());
         Quantity quantity = new Quantity(input.getQuantity());
 
-        Customer customer = customers.ofId(customerId).orElseThrow(() -> new CustomerNotFoundException());
+        Product product;
+        Customer customer;
+        ShippingCostService.CalculationResult shippingCalculationResult;
+
+        try (LookupScope lookups = lookupExecutor.open()) {
+            Supplier<Product> productLookup = lookups.fork(() -> findProduct(new ProductId(input.getProductId())));
+            Supplier<ShippingCostService.CalculationResult> shippingCalculation =
+                    lookups.fork(() -> calculateShippingCost(input.getShipping()));
 
-        Product product = findProduct(new ProductId(input.getProductId()));
+            customer = customers.ofId(customerId).orElseThrow(() -> new CustomerNotFoundException());
 
-        var shippingCalculationResult = calculateShippingCost(input.getShipping());
+            product = productLookup.get();
+            shippingCalculationResult = shippingCalculation.get();
+        }
 
         Shipping shipping = shippingInputDisassembler.toDomainModel(input.getShipping(),
                 shippingCalculationResult);
 
         Billing billing = billingInputDisassembler.toDomainModel(input.getBilling());
 
-        Order order = buyNowService.buyNow(product, customer, billing, shipping, quantity, paymentMethod);
+        return transactionTemplate.execute(status -> {
+            Order order = buyNowService.buyNow(product, customer, billing, shipping, quantity, paymentMethod);
 
-        orders.add(order);
+            orders.add(order);
 
-        return order.id().toString();
+            return order.id().toString();
+        });
     }
 
     private ShippingCostService.CalculationResult calculateShippingCost(ShippingInput shipping) {
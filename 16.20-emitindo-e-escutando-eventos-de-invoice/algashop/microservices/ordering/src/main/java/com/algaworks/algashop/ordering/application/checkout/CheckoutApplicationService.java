@@ -1,7 +1,10 @@
 package com.algaworks.algashop.ordering.application.checkout;
 
+import com.algaworks.algashop.ordering.application.utility.LookupExecutor;
+import com.algaworks.algashop.ordering.application.utility.LookupScope;
 import com.algaworks.algashop.ordering.domain.model.commons.ZipCode;
 import com.algaworks.algashop.ordering.domain.model.customer.Customer;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerNotFoundException;
 import com.algaworks.algashop.ordering.domain.model.customer.Customers;
 import com.algaworks.algashop.ordering.domain.model.order.CheckoutService;
@@ -16,13 +19,18 @@ import com.algaworks.algashop.ordering.domain.model.product.ProductId;
 import com.algaworks.algashop.ordering.domain.model.product.ProductNotFoundException;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCart;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartId;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartItem;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartNotFoundException;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCarts;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -41,28 +49,63 @@ public class CheckoutApplicationService {
 	private final OriginAddressService originAddressService;
 	private final ProductCatalogService productCatalogService;
 
-	@Transactional
+	private final LookupExecutor lookupExecutor;
+	private final TransactionTemplate transactionTemplate;
+
 	public String checkout(CheckoutInput input) {
 		Objects.requireNonNull(input);
 		PaymentMethod paymentMethod = PaymentMethod.valueOf(input.getPaymentMethod());
-
 		ShoppingCartId shoppingCartId = new ShoppingCartId(input.getShoppingCartId());
-		ShoppingCart shoppingCart = shoppingCarts.ofId(shoppingCartId)
-				.orElseThrow(() -> new ShoppingCartNotFoundException());
 
-		Customer customer = customers.ofId(shoppingCart.customerId()).orElseThrow(() -> new CustomerNotFoundException());
+		Long quotedCartVersion;
+		ShippingCostService.CalculationResult shippingCalculationResult;
+		Map<ProductId, Product> products;
+		Customer customer;
+
+		try (LookupScope lookups = lookupExecutor.open()) {
+			Supplier<ShippingCostService.CalculationResult> shippingCalculation =
+					lookups.fork(() -> calculateShippingCost(input.getShipping()));
+
+			ShoppingCart quotedCart = findShoppingCart(shoppingCartId);
+			quotedCartVersion = quotedCart.version();
+
+			Supplier<Map<ProductId, Product>> productLookup = lookups.fork(() -> findProducts(quotedCart));
+			Supplier<Customer> customerLookup = lookups.fork(() -> findCustomer(quotedCart.customerId()));
+
+			shippingCalculationResult = shippingCalculation.get();
+			products = productLookup.get();
+			customer = customerLookup.get();
+		}
+
+		return transactionTemplate.execute(status -> {
+			ShoppingCart shoppingCart = findShoppingCart(shoppingCartId);
+			if (!Objects.equals(quotedCartVersion, shoppingCart.version())) {
+				throw new OptimisticLockingFailureException(
+						"Shopping cart " + shoppingCartId + " changed while checkout was being quoted");
+			}
 
-		var shippingCalculationResult = calculateShippingCost(input.getShipping());
+			refreshItems(shoppingCart, products);
 
-		Order order = checkoutService.checkout(customer, shoppingCart,
-				billingInputDisassembler.toDomainModel(input.getBilling()),
-				shippingInputDisassembler.toDomainModel(input.getShipping(), shippingCalculationResult),
-				paymentMethod);
+			Order order = checkoutService.checkout(customer, shoppingCart,
+					billingInputDisassembler.toDomainModel(input.getBilling()),
+					shippingInputDisassembler.toDomainModel(input.getShipping(), shippingCalculationResult),
+					paymentMethod);
 
-		orders.add(order);
-		shoppingCarts.add(shoppingCart);
+			orders.add(order);
+			shoppingCarts.add(shoppingCart);
 
-		return order.id().toString();
+			return order.id().toString();
+		});
+	}
+
+	private ShoppingCart findShoppingCart(ShoppingCartId shoppingCartId) {
+		return shoppingCarts.ofId(shoppingCartId)
+				.orElseThrow(() -> new ShoppingCartNotFoundException());
+	}
+
+	private Customer findCustomer(CustomerId customerId) {
+		return customers.ofId(customerId)
+				.orElseThrow(() -> new CustomerNotFoundException());
 	}
 
 	private ShippingCostService.CalculationResult calculateShippingCost(ShippingInput shipping) {
@@ -71,9 +114,21 @@ public class CheckoutApplicationService {
 		return shippingCostService.calculate(new ShippingCostService.CalculationRequest(origin, destination));
 	}
 
-	private Product findProduct(ProductId productId) {
-		return productCatalogService.ofId(productId)
-				.orElseThrow(()-> new ProductNotFoundException());
+	private Map<ProductId, Product> findProducts(ShoppingCart shoppingCart) {
+		List<ProductId> productIds = shoppingCart.items().stream()
+				.map(ShoppingCartItem::productId)
+				.toList();
+		return productCatalogService.ofIds(productIds);
+	}
+
+	private void refreshItems(ShoppingCart shoppingCart, Map<ProductId, Product> products) {
+		for (ShoppingCartItem item : shoppingCart.items()) {
+			Product product = products.get(item.productId());
+			if (product == null) {
+				throw new ProductNotFoundException();
+			}
+			shoppingCart.refreshItem(product);
+		}
 	}
 
 }
\ No newline at end of file
@@ -9,6 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -18,20 +21,37 @@ public class CustomerLoyaltyPointsApplicationService {
 	private final CustomerLoyaltyPointsService customerLoyaltyPointsService;
 	private final Orders orders;
 	private final Customers customers;
+	private final LoyaltyPointsCreditedOrders creditedOrders;
 
 	@Transactional
 	public void addLoyaltyPoints(UUID rawCustomerId, String rawOrderId) {
+		addLoyaltyPoints(rawCustomerId, List.of(rawOrderId));
+	}
+
+	@Transactional
+	public void addLoyaltyPoints(UUID rawCustomerId, Collection<String> rawOrderIds) {
 		CustomerId customerId = new CustomerId(rawCustomerId);
-		OrderId orderId = new OrderId(rawOrderId);
+		List<OrderId> orderIds = rawOrderIds.stream().distinct().map(OrderId::new).toList();
 
-		Order order = orders.ofId(orderId)
-				.orElseThrow(() -> new OrderNotFoundException());
+		Set<OrderId> alreadyCredited = creditedOrders.creditedAmong(orderIds);
+		List<OrderId> pendingOrderIds = orderIds.stream()
+				.filter(orderId -> !alreadyCredited.contains(orderId))
+				.toList();
+		if (pendingOrderIds.isEmpty()) {
+			return;
+		}
+
+		List<Order> pendingOrders = orders.ofIds(pendingOrderIds);
+		if (pendingOrders.size() != pendingOrderIds.size()) {
+			throw new OrderNotFoundException();
+		}
 		Customer customer = customers.ofId(customerId)
 				.orElseThrow(() -> new CustomerNotFoundException());
-		
-		customerLoyaltyPointsService.addPoints(customer, order);
-		
+
+		customerLoyaltyPointsService.addPoints(customer, pendingOrders);
+
 		customers.add(customer);
+		creditedOrders.register(customerId, pendingOrderIds);
 	}
 
-}
\ No newline at end of file
+}
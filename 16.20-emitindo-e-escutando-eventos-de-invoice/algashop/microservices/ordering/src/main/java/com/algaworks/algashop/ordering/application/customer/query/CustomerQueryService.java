@@ -1,10 +1,13 @@
 package com.algaworks.algashop.ordering.application.customer.query;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
 public interface CustomerQueryService {
     CustomerOutput findById(UUID customerId);
     Page<CustomerSummaryOutput> filter(CustomerFilter filter);
+    Slice<CustomerSummaryOutput> filterSlice(CustomerFilter filter);
+    Long estimateTotal(CustomerFilter filter);
 }
@@ -1,8 +1,13 @@
 package com.algaworks.algashop.ordering.application.order.query;
 
+import com.algaworks.algashop.ordering.application.utility.CursorSlice;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface OrderQueryService {
     OrderDetailOutput findById(String id);
     Page<OrderSummaryOutput> filter(OrderFilter filter);
+    Slice<OrderSummaryOutput> filterSlice(OrderFilter filter);
+    Long estimateTotal(OrderFilter filter);
+    CursorSlice<OrderSummaryOutput> scroll(OrderFilter filter);
 }
@@ -0,0 +1,21 @@
+package com.algaworks.algashop.ordering.application.utility;
+
+import java.util.concurrent.ExecutorService;
+
+public class LookupExecutor implements AutoCloseable {
+
+    private final ExecutorService executorService;
+
+    public LookupExecutor(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public LookupScope open() {
+        return new LookupScope(executorService);
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
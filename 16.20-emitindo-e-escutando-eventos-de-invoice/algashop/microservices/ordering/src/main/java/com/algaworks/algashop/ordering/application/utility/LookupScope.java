@@ -0,0 +1,73 @@
+package com.algaworks.algashop.ordering.application.utility;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/*
+ * Runs independent lookups concurrently. The first failing lookup cancels the others, and
+ * closing the scope cancels whatever was not joined, so a failure on the caller thread
+ * does not leave remote calls running.
+ */
+public class LookupScope implements AutoCloseable {
+
+    private final Executor executor;
+    private final List<Future<?>> forks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    LookupScope(Executor executor) {
+        this.executor = executor;
+    }
+
+    public <T> Supplier<T> fork(Callable<T> lookup) {
+        FutureTask<T> fork = new FutureTask<>(lookup) {
+            @Override
+            protected void setException(Throwable t) {
+                super.setException(t);
+                if (failure.compareAndSet(null, t)) {
+                    cancelAll();
+                }
+            }
+        };
+        forks.add(fork);
+
+        try {
+            executor.execute(fork);
+        } catch (RejectedExecutionException e) {
+            fork.run();
+        }
+
+        return () -> join(fork);
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private <T> T join(Future<T> fork) {
+        try {
+            return fork.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new IllegalStateException("Interrupted while waiting for a lookup", e);
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = failure.get() != null ? failure.get() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Lookup failed", cause != null ? cause : e);
+        }
+    }
+
+    private void cancelAll() {
+        for (Future<?> fork : forks) {
+            fork.cancel(true);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.algaworks.algashop.ordering.domain.model;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface Repository<T extends AggregateRoot<ID>, ID> {
     Optional<T> ofId(ID id);
     boolean exists(ID id);
     void add(T aggregateRoot);
+    void addAll(Collection<T> aggregateRoots);
     long count();
 }
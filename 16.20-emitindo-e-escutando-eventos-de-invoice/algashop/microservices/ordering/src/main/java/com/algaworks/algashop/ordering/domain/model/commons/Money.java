@@ -4,22 +4,48 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
-public record Money(BigDecimal value) implements Comparable<Money> {
+/*
+ * Amounts are kept as a count of cents. BigDecimal is only used to convert at the boundaries,
+ * always with scale 2 and HALF_EVEN rounding. Amounts above Long.MAX_VALUE cents are rejected
+ * like negative ones.
+ */
+public final class Money implements Comparable<Money> {
 
     private static final RoundingMode roundingMode = RoundingMode.HALF_EVEN;
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    private static final int SCALE = 2;
+
+    private static final long CENTS_PER_UNIT = 100;
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long cents;
+
+    private Money(long cents) {
+        if (cents < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.cents = cents;
+    }
 
     public Money(String value) {
         this(new BigDecimal(value));
     }
 
     public Money(BigDecimal value) {
-        Objects.requireNonNull(value);
-        this.value = value.setScale(2, roundingMode);
-        if (this.value.signum() == -1) {
-            throw new IllegalArgumentException();
-        }
+        this(centsOf(value));
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    public BigDecimal value() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public long cents() {
+        return cents;
     }
 
     public Money multiply(Quantity quantity) {
@@ -27,26 +53,60 @@ public record Money(BigDecimal value) implements Comparable<Money> {
         if (quantity.value() < 1) {
             throw new IllegalArgumentException();
         }
-        BigDecimal multiplied = this.value.multiply(new BigDecimal(quantity.value()));
-        return new Money(multiplied);
+        return new Money(Math.multiplyExact(this.cents, quantity.value().longValue()));
     }
 
     public Money add(Money money) {
         Objects.requireNonNull(money);
-        return new Money(this.value.add(money.value));
+        return new Money(Math.addExact(this.cents, money.cents));
     }
 
-    @Override
-    public String toString() {
-        return value.toString();
+    public Money divide(Money o) {
+        Objects.requireNonNull(o);
+        if (this.cents > Long.MAX_VALUE / CENTS_PER_UNIT) {
+            return new Money(this.value().divide(o.value(), roundingMode));
+        }
+        return new Money(divideHalfEven(this.cents * CENTS_PER_UNIT, o.cents));
     }
 
     @Override
     public int compareTo(Money o) {
-        return this.value.compareTo(o.value);
+        return Long.compare(this.cents, o.cents);
     }
 
-    public Money divide(Money o) {
-        return new Money(this.value.divide(o.value, roundingMode));
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money money)) return false;
+        return cents == money.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return value().toString();
+    }
+
+    private static long centsOf(BigDecimal value) {
+        Objects.requireNonNull(value);
+        BigDecimal scaled = value.setScale(SCALE, roundingMode);
+        if (scaled.signum() == -1 || scaled.unscaledValue().bitLength() >= Long.SIZE) {
+            throw new IllegalArgumentException();
+        }
+        return scaled.unscaledValue().longValue();
+    }
+
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        long complement = divisor - remainder;
+        if (remainder > complement || (remainder == complement && (quotient & 1) == 1)) {
+            return quotient + 1;
+        }
+        return quotient;
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,8 @@ import com.algaworks.algashop.ordering.domain.model.order.OrderNotBelongsToCusto
 import com.algaworks.algashop.ordering.domain.model.DomainService;
 import com.algaworks.algashop.ordering.domain.model.commons.Money;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 @DomainService
@@ -15,18 +17,30 @@ public class CustomerLoyaltyPointsService {
     private static final Money expectedAmountToGivePoints = new Money("1000");
 
     public void addPoints(Customer customer, Order order) {
-        Objects.requireNonNull(customer);
         Objects.requireNonNull(order);
+        addPoints(customer, List.of(order));
+    }
 
-        if (!customer.id().equals(order.customerId())) {
-            throw new OrderNotBelongsToCustomerException();
-        }
+    public void addPoints(Customer customer, Collection<Order> orders) {
+        Objects.requireNonNull(customer);
+        Objects.requireNonNull(orders);
+
+        int points = 0;
+        for (Order order : orders) {
+            Objects.requireNonNull(order);
+
+            if (!customer.id().equals(order.customerId())) {
+                throw new OrderNotBelongsToCustomerException();
+            }
+
+            if (!order.isReady()) {
+                throw new CantAddLoyaltyPointsOrderIsNotReady();
+            }
 
-        if (!order.isReady()) {
-            throw new CantAddLoyaltyPointsOrderIsNotReady();
+            points += calculatePoints(order).value();
         }
 
-        customer.addLoyaltyPoints(calculatePoints(order));
+        customer.addLoyaltyPoints(new LoyaltyPoints(points));
     }
 
     private LoyaltyPoints calculatePoints(Order order) {
@@ -0,0 +1,11 @@
+package com.algaworks.algashop.ordering.domain.model.customer;
+
+import com.algaworks.algashop.ordering.domain.model.order.OrderId;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface LoyaltyPointsCreditedOrders {
+    Set<OrderId> creditedAmong(Collection<OrderId> orderIds);
+    void register(CustomerId customerId, Collection<OrderId> orderIds);
+}
@@ -8,13 +8,10 @@ import com.algaworks.algashop.ordering.domain.model.product.Product;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Consumer;
 
 public class Order
         extends AbstractEventSourceEntity
@@ -38,6 +35,10 @@ public class Order
     private PaymentMethod paymentMethod;
 
     private Set<OrderItem> items;
+    private Map<OrderItemId, OrderItem> itemsById;
+
+    private long itemsAmountInCents;
+    private int itemsQuantity;
 
     private Long version;
 
@@ -98,11 +99,9 @@ public class Order
                 .product(product)
                 .build();
 
-        if (this.items == null) {
-            this.items = new HashSet<>();
-        }
-
         this.items.add(orderItem);
+        this.itemsById.put(orderItem.id(), orderItem);
+        this.addToTotals(orderItem);
 
         this.recalculateTotals();
     }
@@ -164,7 +163,7 @@ public class Order
         this.verifyIfChangeable();
 
         OrderItem orderItem = this.findOrderItem(orderItemId);
-        orderItem.changeQuantity(quantity);
+        this.changeItem(orderItem, i -> i.changeQuantity(quantity));
 
         this.recalculateTotals();
     }
@@ -175,6 +174,8 @@ public class Order
 
         OrderItem orderItem = findOrderItem(orderItemId);
         this.items.remove(orderItem);
+        this.itemsById.remove(orderItemId);
+        this.subtractFromTotals(orderItem);
 
         this.recalculateTotals();
     }
@@ -252,23 +253,38 @@ public class Order
     }
 
     private void recalculateTotals() {
-        BigDecimal totalItemsAmount = this.items().stream().map(i -> i.totalAmount().value())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Integer totalItemsQuantity = this.items().stream().map(i -> i.quantity().value())
-                .reduce(0, Integer::sum);
-
-        BigDecimal shippingCost;
+        long shippingCost;
         if(this.shipping() == null) {
-            shippingCost = BigDecimal.ZERO;
+            shippingCost = 0L;
         } else {
-            shippingCost = this.shipping().cost().value();
+            shippingCost = this.shipping().cost().cents();
         }
 
-        BigDecimal totalAmount = totalItemsAmount.add(shippingCost);
+        long totalAmount = Math.addExact(this.itemsAmountInCents, shippingCost);
 
-        this.setTotalAmount(new Money(totalAmount));
-        this.setTotalItems(new Quantity(totalItemsQuantity));
+        this.setTotalAmount(Money.ofCents(totalAmount));
+        this.setTotalItems(new Quantity(this.itemsQuantity));
+    }
+
+    private void changeItem(OrderItem orderItem, Consumer<OrderItem> change) {
+        long previousAmountInCents = orderItem.totalAmount().cents();
+        int previousQuantity = orderItem.quantity().value();
+
+        change.accept(orderItem);
+
+        this.itemsAmountInCents = Math.addExact(this.itemsAmountInCents - previousAmountInCents,
+                orderItem.totalAmount().cents());
+        this.itemsQuantity = Math.addExact(this.itemsQuantity - previousQuantity, orderItem.quantity().value());
+    }
+
+    private void addToTotals(OrderItem orderItem) {
+        this.itemsAmountInCents = Math.addExact(this.itemsAmountInCents, orderItem.totalAmount().cents());
+        this.itemsQuantity = Math.addExact(this.itemsQuantity, orderItem.quantity().value());
+    }
+
+    private void subtractFromTotals(OrderItem orderItem) {
+        this.itemsAmountInCents -= orderItem.totalAmount().cents();
+        this.itemsQuantity -= orderItem.quantity().value();
     }
 
     private void changeStatus(OrderStatus newStatus) {
@@ -296,10 +312,11 @@ public class Order
 
     private OrderItem findOrderItem(OrderItemId orderItemId) {
         Objects.requireNonNull(orderItemId);
-        return this.items().stream()
-                .filter(i -> i.id().equals(orderItemId))
-                .findFirst()
-                .orElseThrow(()-> new OrderDoesNotContainOrderItemException(this.id(), orderItemId));
+        OrderItem orderItem = this.itemsById.get(orderItemId);
+        if (orderItem == null) {
+            throw new OrderDoesNotContainOrderItemException(this.id(), orderItemId);
+        }
+        return orderItem;
     }
 
     private void verifyIfChangeable() {
@@ -372,6 +389,13 @@ public class Order
     private void setItems(Set<OrderItem> items) {
         Objects.requireNonNull(items);
         this.items = items;
+        this.itemsById = new HashMap<>(items.size());
+        this.itemsAmountInCents = 0L;
+        this.itemsQuantity = 0;
+        for (OrderItem item : items) {
+            this.itemsById.put(item.id(), item);
+            this.addToTotals(item);
+        }
     }
 
     @Override
@@ -5,9 +5,11 @@ import com.algaworks.algashop.ordering.domain.model.commons.Money;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 
 import java.time.Year;
+import java.util.Collection;
 import java.util.List;
 
 public interface Orders extends Repository<Order, OrderId> {
+    List<Order> ofIds(Collection<OrderId> orderIds);
     List<Order> placedByCustomerInYear(CustomerId customerId, Year year);
     long salesQuantityByCustomerInYear(CustomerId customerId, Year year);
     Money totalSoldForCustomer(CustomerId customerId);
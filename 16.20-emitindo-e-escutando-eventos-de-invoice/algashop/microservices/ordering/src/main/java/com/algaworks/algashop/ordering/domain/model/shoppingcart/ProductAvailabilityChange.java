@@ -0,0 +1,11 @@
+package com.algaworks.algashop.ordering.domain.model.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+
+import java.util.Objects;
+
+public record ProductAvailabilityChange(ProductId productId, boolean available) {
+    public ProductAvailabilityChange {
+        Objects.requireNonNull(productId);
+    }
+}
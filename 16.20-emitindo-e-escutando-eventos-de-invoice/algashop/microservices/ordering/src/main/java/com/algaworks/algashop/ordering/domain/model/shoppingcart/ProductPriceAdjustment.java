@@ -0,0 +1,13 @@
+package com.algaworks.algashop.ordering.domain.model.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+
+import java.util.Objects;
+
+public record ProductPriceAdjustment(ProductId productId, Money updatedPrice) {
+    public ProductPriceAdjustment {
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(updatedPrice);
+    }
+}
@@ -9,9 +9,9 @@ import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import com.algaworks.algashop.ordering.domain.model.product.ProductId;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class ShoppingCart
         extends AbstractEventSourceEntity
@@ -22,6 +22,11 @@ public class ShoppingCart
     private Quantity totalItems;
     private OffsetDateTime createdAt;
     private Set<ShoppingCartItem> items;
+    private Map<ShoppingCartItemId, ShoppingCartItem> itemsById;
+    private Map<ProductId, ShoppingCartItem> itemsByProduct;
+
+    private long itemsAmountInCents;
+    private int itemsQuantity;
 
     private Long version;
 
@@ -30,6 +35,7 @@ public class ShoppingCart
                         Money totalAmount, Quantity totalItems, OffsetDateTime createdAt,
                         Set<ShoppingCartItem> items) {
         this.setId(id);
+        this.setVersion(version);
         this.setCustomerId(customerId);
         this.setTotalAmount(totalAmount);
         this.setTotalItems(totalItems);
@@ -50,6 +56,10 @@ public class ShoppingCart
 
     public void empty() {
         items.clear();
+        itemsById.clear();
+        itemsByProduct.clear();
+        itemsAmountInCents = 0L;
+        itemsQuantity = 0;
         totalAmount = Money.ZERO;
         totalItems = Quantity.ZERO;
         this.publishDomainEvent(new ShoppingCartEmptiedEvent(
@@ -62,6 +72,9 @@ public class ShoppingCart
     public void removeItem(ShoppingCartItemId shoppingCartItemId) {
         ShoppingCartItem shoppingCartItem = this.findItem(shoppingCartItemId);
         this.items.remove(shoppingCartItem);
+        this.itemsById.remove(shoppingCartItem.id());
+        this.itemsByProduct.remove(shoppingCartItem.productId(), shoppingCartItem);
+        this.subtractFromTotals(shoppingCartItem);
         this.recalculateTotals();
         this.publishDomainEvent(new ShoppingCartItemRemovedEvent(
                 this.id(),
@@ -101,29 +114,28 @@ public class ShoppingCart
 
     public ShoppingCartItem findItem(ShoppingCartItemId shoppingCartItemId) {
         Objects.requireNonNull(shoppingCartItemId);
-        return this.items.stream()
-                .filter(i -> i.id().equals(shoppingCartItemId))
-                .findFirst()
-                .orElseThrow(() -> new ShoppingCartDoesNotContainItemException(this.id(), shoppingCartItemId));
+        ShoppingCartItem shoppingCartItem = this.itemsById.get(shoppingCartItemId);
+        if (shoppingCartItem == null) {
+            throw new ShoppingCartDoesNotContainItemException(this.id(), shoppingCartItemId);
+        }
+        return shoppingCartItem;
     }
 
     public ShoppingCartItem findItem(ProductId productId) {
         Objects.requireNonNull(productId);
-        return this.items.stream()
-                .filter(i -> i.productId().equals(productId))
-                .findFirst()
+        return this.searchItemByProduct(productId)
                 .orElseThrow(() -> new ShoppingCartDoesNotContainProductException(this.id(), productId));
     }
 
     public void refreshItem(Product product) {
         ShoppingCartItem shoppingCartItem = this.findItem(product.id());
-        shoppingCartItem.refresh(product);
+        this.changeItem(shoppingCartItem, i -> i.refresh(product));
         this.recalculateTotals();
     }
 
     public void changeItemQuantity(ShoppingCartItemId shoppingCartItemId, Quantity quantity) {
         ShoppingCartItem shoppingCartItem = this.findItem(shoppingCartItemId);
-        shoppingCartItem.changeQuantity(quantity);
+        this.changeItem(shoppingCartItem, i -> i.changeQuantity(quantity));
         this.recalculateTotals();
     }
 
@@ -164,32 +176,53 @@ public class ShoppingCart
     }
 
     private void updateItem(ShoppingCartItem shoppingCartItem, Product product, Quantity quantity) {
-        shoppingCartItem.refresh(product);
-        shoppingCartItem.changeQuantity(shoppingCartItem.quantity().add(quantity));
+        this.changeItem(shoppingCartItem, i -> {
+            i.refresh(product);
+            i.changeQuantity(i.quantity().add(quantity));
+        });
     }
 
     private void insertItem(ShoppingCartItem shoppingCartItem) {
         this.items.add(shoppingCartItem);
+        this.indexItem(shoppingCartItem);
+        this.addToTotals(shoppingCartItem);
     }
 
     private Optional<ShoppingCartItem> searchItemByProduct(ProductId productId) {
         Objects.requireNonNull(productId);
-        return this.items.stream()
-                .filter(i -> i.productId().equals(productId))
-                .findFirst();
+        return Optional.ofNullable(this.itemsByProduct.get(productId));
     }
 
     private void recalculateTotals() {
-        BigDecimal totalAmount = items.stream()
-                .map(i -> i.totalAmount().value())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.totalAmount = Money.ofCents(itemsAmountInCents);
+        this.totalItems = new Quantity(itemsQuantity);
+    }
+
+    private void changeItem(ShoppingCartItem shoppingCartItem, Consumer<ShoppingCartItem> change) {
+        long previousAmountInCents = shoppingCartItem.totalAmount().cents();
+        int previousQuantity = shoppingCartItem.quantity().value();
 
-        Integer totalItems = items.stream()
-                .map(i -> i.quantity().value())
-                .reduce(0, Integer::sum);
+        change.accept(shoppingCartItem);
+
+        this.itemsAmountInCents = Math.addExact(this.itemsAmountInCents - previousAmountInCents,
+                shoppingCartItem.totalAmount().cents());
+        this.itemsQuantity = Math.addExact(this.itemsQuantity - previousQuantity,
+                shoppingCartItem.quantity().value());
+    }
+
+    private void indexItem(ShoppingCartItem shoppingCartItem) {
+        this.itemsById.put(shoppingCartItem.id(), shoppingCartItem);
+        this.itemsByProduct.putIfAbsent(shoppingCartItem.productId(), shoppingCartItem);
+    }
+
+    private void addToTotals(ShoppingCartItem shoppingCartItem) {
+        this.itemsAmountInCents = Math.addExact(this.itemsAmountInCents, shoppingCartItem.totalAmount().cents());
+        this.itemsQuantity = Math.addExact(this.itemsQuantity, shoppingCartItem.quantity().value());
+    }
 
-        this.totalAmount = new Money(totalAmount);
-        this.totalItems = new Quantity(totalItems);
+    private void subtractFromTotals(ShoppingCartItem shoppingCartItem) {
+        this.itemsAmountInCents -= shoppingCartItem.totalAmount().cents();
+        this.itemsQuantity -= shoppingCartItem.quantity().value();
     }
 
     private void setId(ShoppingCartId id) {
@@ -220,6 +253,14 @@ public class ShoppingCart
     private void setItems(Set<ShoppingCartItem> items) {
         Objects.requireNonNull(items);
         this.items = items;
+        this.itemsById = new HashMap<>(items.size());
+        this.itemsByProduct = new HashMap<>(items.size());
+        this.itemsAmountInCents = 0L;
+        this.itemsQuantity = 0;
+        for (ShoppingCartItem item : items) {
+            this.indexItem(item);
+            this.addToTotals(item);
+        }
     }
 
     private void setVersion(Long version) {
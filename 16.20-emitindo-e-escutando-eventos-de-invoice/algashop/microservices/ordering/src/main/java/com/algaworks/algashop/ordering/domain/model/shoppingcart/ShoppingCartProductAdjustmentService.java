@@ -3,7 +3,13 @@ package com.algaworks.algashop.ordering.domain.model.shoppingcart;
 import com.algaworks.algashop.ordering.domain.model.commons.Money;
 import com.algaworks.algashop.ordering.domain.model.product.ProductId;
 
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
 public interface ShoppingCartProductAdjustmentService {
     void adjustPrice(ProductId productId, Money updatedPrice);
     void changeAvailability(ProductId productId, boolean available);
+
+    long adjustPrices(Stream<ProductPriceAdjustment> adjustments, LongConsumer progress);
+    long changeAvailabilities(Stream<ProductAvailabilityChange> changes, LongConsumer progress);
 }
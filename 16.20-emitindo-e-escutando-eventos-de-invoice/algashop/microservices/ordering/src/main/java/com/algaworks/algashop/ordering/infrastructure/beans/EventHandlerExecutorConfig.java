@@ -0,0 +1,45 @@
+package com.algaworks.algashop.ordering.infrastructure.beans;
+
+import com.algaworks.algashop.ordering.infrastructure.listener.AsyncEventHandlerExecutor;
+import com.algaworks.algashop.ordering.infrastructure.utility.virtualthread.ThreadFactories;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class EventHandlerExecutorConfig {
+
+    @Bean(destroyMethod = "close")
+    public AsyncEventHandlerExecutor asyncEventHandlerExecutor(
+            PlatformTransactionManager transactionManager,
+            Environment environment,
+            @Value("${algashop.events.handlers.pool-size:4}") int poolSize,
+            @Value("${algashop.events.handlers.queue-capacity:1000}") int queueCapacity,
+            @Value("${algashop.events.handlers.retry.max-attempts:3}") int maxAttempts,
+            @Value("${algashop.events.handlers.retry.backoff:PT0.05S}") Duration retryBackoff,
+            @Value("${algashop.events.handlers.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.named(environment, "event-handler-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        return new AsyncEventHandlerExecutor(executor, transactionTemplate, maxAttempts, retryBackoff, shutdownTimeout);
+    }
+
+}
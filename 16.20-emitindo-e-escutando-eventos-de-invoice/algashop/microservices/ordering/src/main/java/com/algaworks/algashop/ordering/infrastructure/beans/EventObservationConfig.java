@@ -0,0 +1,19 @@
+package com.algaworks.algashop.ordering.infrastructure.beans;
+
+import com.algaworks.algashop.ordering.infrastructure.listener.ObservedApplicationEventMulticaster;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+
+@Configuration
+public class EventObservationConfig {
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public static ObservedApplicationEventMulticaster applicationEventMulticaster(
+            BeanFactory beanFactory, ObjectProvider<ObservationRegistry> observationRegistryProvider) {
+        return new ObservedApplicationEventMulticaster(beanFactory, observationRegistryProvider);
+    }
+}
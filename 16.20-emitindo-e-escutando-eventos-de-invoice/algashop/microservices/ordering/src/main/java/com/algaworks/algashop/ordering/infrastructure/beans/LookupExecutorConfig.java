@@ -0,0 +1,32 @@
+package com.algaworks.algashop.ordering.infrastructure.beans;
+
+import com.algaworks.algashop.ordering.application.utility.LookupExecutor;
+import com.algaworks.algashop.ordering.infrastructure.utility.virtualthread.ThreadFactories;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class LookupExecutorConfig {
+
+    @Bean(destroyMethod = "close")
+    public LookupExecutor lookupExecutor(
+            Environment environment,
+            @Value("${algashop.lookups.pool-size:16}") int poolSize,
+            @Value("${algashop.lookups.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.named(environment, "lookup-")
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return new LookupExecutor(executor);
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.algaworks.algashop.ordering.infrastructure.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Runs event handlers once the publishing transaction has committed, or right away when there
+ * is none. Each attempt gets its own transaction, which also keeps handlers that fall back to
+ * the caller thread when the queue is full from joining the already committed transaction.
+ */
+@Slf4j
+public class AsyncEventHandlerExecutor implements MeterBinder, AutoCloseable {
+
+    private static final String EXECUTOR_NAME = "event-handlers";
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration shutdownTimeout;
+
+    private volatile MeterRegistry meterRegistry = new CompositeMeterRegistry();
+
+    public AsyncEventHandlerExecutor(ThreadPoolExecutor executor, TransactionTemplate transactionTemplate,
+                                     int maxAttempts, Duration retryBackoff, Duration shutdownTimeout) {
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    public void executeAfterCommit(String handler, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            execute(handler, action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                execute(handler, action);
+            }
+        });
+    }
+
+    public void execute(String handler, Runnable action) {
+        execute(handler, action, () -> { });
+    }
+
+    /*
+     * Runs the fallback once the action has failed for good, i.e. after its last retry. A handler
+     * the pool rejects, because its queue is full or it is shutting down, runs on the caller thread.
+     */
+    public void execute(String handler, Runnable action, Runnable fallback) {
+        try {
+            executor.execute(() -> handle(handler, action, fallback));
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                log.warn("Event handler {} submitted after shutdown, running it on the caller thread", handler);
+            }
+            handle(handler, action, fallback);
+        }
+    }
+
+    /*
+     * Runs the handler on the calling thread with the same transaction, retries and metrics, so a
+     * fallback can split its work without going back to a queue that may be draining.
+     */
+    public void run(String handler, Runnable action) {
+        handle(handler, action, () -> { });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /*
+     * Queued handlers are drained rather than interrupted. Whatever is still queued after the
+     * timeout is lost with the JVM; the sales stats reconciliation repairs those projections.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Event handlers still running after {}, {} queued handlers will not run",
+                    shutdownTimeout, executor.getQueue().size());
+        }
+    }
+
+    private void handle(String handler, Runnable action, Runnable fallback) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            runWithRetry(handler, action);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.error("Event handler {} failed", handler, e);
+            fallback.run();
+        } finally {
+            Timer.builder("algashop.events.handler.duration")
+                    .tags("handler", handler, "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void runWithRetry(String handler, Runnable action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> action.run());
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("Event handler {} hit a concurrent update, retrying (attempt {})", handler, attempt);
+                Counter.builder("algashop.events.handler.retries")
+                        .tag("handler", handler)
+                        .register(meterRegistry)
+                        .increment();
+                sleep(retryBackoff.multipliedBy(attempt));
+            }
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying event handler", e);
+        }
+    }
+}
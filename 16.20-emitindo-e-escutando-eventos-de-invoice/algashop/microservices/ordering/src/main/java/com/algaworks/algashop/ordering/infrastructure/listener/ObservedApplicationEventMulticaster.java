@@ -0,0 +1,84 @@
+package com.algaworks.algashop.ordering.infrastructure.listener;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+/*
+ * Observes every domain event, i.e. every event published as a plain object, and each listener
+ * it is dispatched to. Framework events are dispatched untouched. The registry is resolved on
+ * the first domain event, since this multicaster is created before most of the context.
+ */
+public class ObservedApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+
+    private volatile ObservationRegistry observationRegistry;
+
+    public ObservedApplicationEventMulticaster(BeanFactory beanFactory,
+                                               ObjectProvider<ObservationRegistry> observationRegistryProvider) {
+        super(beanFactory);
+        this.observationRegistryProvider = observationRegistryProvider;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+        if (!isDomainEvent(event)) {
+            super.multicastEvent(event, eventType);
+            return;
+        }
+        Observation.createNotStarted("algashop.events.publish", observationRegistry())
+                .lowCardinalityKeyValue("event", eventName(event))
+                .observe(() -> super.multicastEvent(event, eventType));
+    }
+
+    @Override
+    protected void invokeListener(ApplicationListener<?> listener, ApplicationEvent event) {
+        if (!isDomainEvent(event)) {
+            super.invokeListener(listener, event);
+            return;
+        }
+        Observation.createNotStarted("algashop.events.listener", observationRegistry())
+                .lowCardinalityKeyValue("event", eventName(event))
+                .lowCardinalityKeyValue("listener", listenerName(listener))
+                .observe(() -> super.invokeListener(listener, event));
+    }
+
+    private ObservationRegistry observationRegistry() {
+        ObservationRegistry registry = observationRegistry;
+        if (registry == null) {
+            registry = observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP);
+            observationRegistry = registry;
+        }
+        return registry;
+    }
+
+    private boolean isDomainEvent(ApplicationEvent event) {
+        return event.getClass() == PayloadApplicationEvent.class;
+    }
+
+    private String eventName(ApplicationEvent event) {
+        return ((PayloadApplicationEvent<?>) event).getPayload().getClass().getSimpleName();
+    }
+
+    private String listenerName(ApplicationListener<?> listener) {
+        if (listener instanceof SmartApplicationListener smartListener) {
+            String listenerId = smartListener.getListenerId();
+            int parameters = listenerId.indexOf('(');
+            if (parameters > 0) {
+                String method = listenerId.substring(0, parameters);
+                int methodName = method.lastIndexOf('.');
+                return ClassUtils.getShortName(method.substring(0, methodName)) + method.substring(methodName);
+            }
+        }
+        return ClassUtils.getShortName(ClassUtils.getUserClass(listener));
+    }
+}
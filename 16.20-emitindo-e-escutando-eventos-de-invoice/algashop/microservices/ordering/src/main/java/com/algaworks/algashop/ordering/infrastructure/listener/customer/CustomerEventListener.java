@@ -1,11 +1,11 @@
 package com.algaworks.algashop.ordering.infrastructure.listener.customer;
 
-import com.algaworks.algashop.ordering.application.customer.loyaltypoints.CustomerLoyaltyPointsApplicationService;
 import com.algaworks.algashop.ordering.application.customer.notification.CustomerNotificationApplicationService;
 import com.algaworks.algashop.ordering.application.customer.notification.CustomerNotificationApplicationService.NotifyNewRegistrationInput;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerArchivedEvent;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerRegisteredEvent;
 import com.algaworks.algashop.ordering.domain.model.order.OrderReadyEvent;
+import com.algaworks.algashop.ordering.infrastructure.listener.AsyncEventHandlerExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -17,7 +17,8 @@ import org.springframework.stereotype.Component;
 public class CustomerEventListener {
 
     private final CustomerNotificationApplicationService customerNotificationApplicationService;
-    private final CustomerLoyaltyPointsApplicationService customerLoyaltyPointsApplicationService;
+    private final LoyaltyPointsBatcher loyaltyPointsBatcher;
+    private final AsyncEventHandlerExecutor eventHandlerExecutor;
 
     @EventListener
     public void listen(CustomerRegisteredEvent event) {
@@ -27,7 +28,8 @@ public class CustomerEventListener {
                 event.fullName().firstName(),
                 event.email().value()
         );
-        customerNotificationApplicationService.notifyNewRegistration(input);
+        eventHandlerExecutor.executeAfterCommit("customer.notify-new-registration",
+                () -> customerNotificationApplicationService.notifyNewRegistration(input));
     }
 
     @EventListener
@@ -37,8 +39,7 @@ public class CustomerEventListener {
 
     @EventListener
     public void listen(OrderReadyEvent event) {
-        customerLoyaltyPointsApplicationService.addLoyaltyPoints(event.customerId().value(),
-                event.orderId().toString());
+        loyaltyPointsBatcher.addAfterCommit(event);
     }
 
 }
@@ -0,0 +1,114 @@
+package com.algaworks.algashop.ordering.infrastructure.listener.customer;
+
+import com.algaworks.algashop.ordering.application.customer.loyaltypoints.CustomerLoyaltyPointsApplicationService;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.order.OrderReadyEvent;
+import com.algaworks.algashop.ordering.infrastructure.listener.AsyncEventHandlerExecutor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/*
+ * Collects ready orders for a short window and credits each customer once per window, so a
+ * burst of ready orders for the same customer does not turn into competing customer updates.
+ * Crediting is idempotent per order, so a replayed event is simply skipped. If a customer's batch
+ * fails, its orders are credited one by one so a single bad order only fails itself. Without
+ * scheduling there is no window and orders are credited as they become ready. Orders still
+ * pending when the process dies are picked up by LoyaltyPointsCreditSweeper.
+ */
+@Slf4j
+@Component
+public class LoyaltyPointsBatcher {
+
+    private static final String HANDLER = "customer.add-loyalty-points";
+    private static final String SINGLE_ORDER_HANDLER = "customer.add-loyalty-points.single-order";
+
+    private final CustomerLoyaltyPointsApplicationService loyaltyPointsApplicationService;
+    private final AsyncEventHandlerExecutor eventHandlerExecutor;
+    private final int maxSize;
+    private final boolean windowed;
+
+    private final LinkedBlockingQueue<OrderReadyEvent> pending = new LinkedBlockingQueue<>();
+
+    public LoyaltyPointsBatcher(CustomerLoyaltyPointsApplicationService loyaltyPointsApplicationService,
+                                AsyncEventHandlerExecutor eventHandlerExecutor,
+                                @Value("${algashop.loyalty-points.batch.max-size:500}") int maxSize,
+                                @Value("${algashop.scheduling.enabled:true}") boolean windowed) {
+        this.loyaltyPointsApplicationService = loyaltyPointsApplicationService;
+        this.eventHandlerExecutor = eventHandlerExecutor;
+        this.maxSize = maxSize;
+        this.windowed = windowed;
+    }
+
+    public void addAfterCommit(OrderReadyEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(event);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${algashop.loyalty-points.batch.window:PT0.5S}")
+    public int flush() {
+        List<OrderReadyEvent> events = new ArrayList<>();
+        pending.drainTo(events);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<CustomerId, Set<String>> orderIdsByCustomer = new LinkedHashMap<>();
+        for (OrderReadyEvent event : events) {
+            orderIdsByCustomer.computeIfAbsent(event.customerId(), customerId -> new LinkedHashSet<>())
+                    .add(event.orderId().toString());
+        }
+
+        log.debug("Crediting loyalty points of {} ready orders for {} customers",
+                events.size(), orderIdsByCustomer.size());
+        orderIdsByCustomer.forEach((customerId, orderIds) ->
+                eventHandlerExecutor.execute(HANDLER,
+                        () -> loyaltyPointsApplicationService.addLoyaltyPoints(customerId.value(), orderIds),
+                        () -> creditOneByOne(customerId, orderIds)));
+
+        return orderIdsByCustomer.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(OrderReadyEvent event) {
+        pending.add(event);
+        if (!windowed || pending.size() >= maxSize) {
+            flush();
+        }
+    }
+
+    private void creditOneByOne(CustomerId customerId, Set<String> orderIds) {
+        if (orderIds.size() < 2) {
+            return;
+        }
+        log.warn("Crediting {} ready orders of customer {} one by one after their batch failed",
+                orderIds.size(), customerId);
+        orderIds.forEach(orderId ->
+                eventHandlerExecutor.run(SINGLE_ORDER_HANDLER,
+                        () -> loyaltyPointsApplicationService.addLoyaltyPoints(customerId.value(), orderId)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.algaworks.algashop.ordering.infrastructure.listener.customer;
+
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.order.OrderId;
+import com.algaworks.algashop.ordering.domain.model.order.OrderReadyEvent;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository.ReadyOrderView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/*
+ * Ready orders only wait in the batcher's memory, so a crash or deploy can lose them before they
+ * are credited. The sweep hands ready orders without a credit row back to the batcher once they
+ * are older than the grace period, which leaves time for the regular path to credit them first.
+ */
+@Slf4j
+@Component
+public class LoyaltyPointsCreditSweeper {
+
+    private final OrderPersistenceEntityRepository orderRepository;
+    private final LoyaltyPointsBatcher loyaltyPointsBatcher;
+    private final Duration lookBack;
+    private final Duration grace;
+    private final int batchSize;
+
+    public LoyaltyPointsCreditSweeper(OrderPersistenceEntityRepository orderRepository,
+                                      LoyaltyPointsBatcher loyaltyPointsBatcher,
+                                      @Value("${algashop.loyalty-points.sweep.look-back:P1D}") Duration lookBack,
+                                      @Value("${algashop.loyalty-points.sweep.grace:PT5M}") Duration grace,
+                                      @Value("${algashop.loyalty-points.sweep.batch-size:500}") int batchSize) {
+        this.orderRepository = orderRepository;
+        this.loyaltyPointsBatcher = loyaltyPointsBatcher;
+        this.lookBack = lookBack;
+        this.grace = grace;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${algashop.loyalty-points.sweep.interval:PT5M}",
+            initialDelayString = "${algashop.loyalty-points.sweep.interval:PT5M}")
+    public int sweep() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<ReadyOrderView> orders = orderRepository.readyWithoutLoyaltyPointsCredit(
+                now.minus(lookBack), now.minus(grace), Limit.of(batchSize));
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        log.warn("Crediting loyalty points of {} ready orders left without a credit", orders.size());
+        orders.forEach(order -> loyaltyPointsBatcher.addAfterCommit(new OrderReadyEvent(
+                new OrderId(order.getOrderId()),
+                new CustomerId(order.getCustomerId()),
+                order.getReadyAt()
+        )));
+        loyaltyPointsBatcher.flush();
+        return orders.size();
+    }
+}
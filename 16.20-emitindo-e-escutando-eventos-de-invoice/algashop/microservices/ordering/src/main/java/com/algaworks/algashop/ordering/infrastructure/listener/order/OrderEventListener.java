@@ -4,12 +4,19 @@ import com.algaworks.algashop.ordering.domain.model.order.OrderCanceledEvent;
 import com.algaworks.algashop.ordering.domain.model.order.OrderPaidEvent;
 import com.algaworks.algashop.ordering.domain.model.order.OrderPlacedEvent;
 import com.algaworks.algashop.ordering.domain.model.order.OrderReadyEvent;
+import com.algaworks.algashop.ordering.infrastructure.listener.AsyncEventHandlerExecutor;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.CustomerSalesStatsProjector;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class OrderEventListener {
 
+    private final CustomerSalesStatsProjector customerSalesStatsProjector;
+    private final AsyncEventHandlerExecutor eventHandlerExecutor;
+
     @EventListener
     public void listen(OrderPlacedEvent event) {
 
@@ -17,7 +24,8 @@ public class OrderEventListener {
 
     @EventListener
     public void listen(OrderPaidEvent event) {
-
+        eventHandlerExecutor.executeAfterCommit("customer-sales-stats.order-paid",
+                () -> customerSalesStatsProjector.orderPaid(event.orderId()));
     }
 
     @EventListener
@@ -27,7 +35,8 @@ public class OrderEventListener {
 
     @EventListener
     public void listen(OrderCanceledEvent event) {
-
+        eventHandlerExecutor.executeAfterCommit("customer-sales-stats.order-canceled",
+                () -> customerSalesStatsProjector.orderCanceled(event.orderId()));
     }
 
 }
@@ -0,0 +1,82 @@
+package com.algaworks.algashop.ordering.infrastructure.listener.outbox;
+
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerArchivedEvent;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerRegisteredEvent;
+import com.algaworks.algashop.ordering.domain.model.order.OrderCanceledEvent;
+import com.algaworks.algashop.ordering.domain.model.order.OrderPaidEvent;
+import com.algaworks.algashop.ordering.domain.model.order.OrderPlacedEvent;
+import com.algaworks.algashop.ordering.domain.model.order.OrderReadyEvent;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartCreatedEvent;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartEmptiedEvent;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartItemAddedEvent;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartItemRemovedEvent;
+import com.algaworks.algashop.ordering.infrastructure.persistence.outbox.OutboxEventRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/*
+ * Domain events are published while the aggregate is saved, so recording them here writes
+ * the outbox row in the same transaction as the aggregate.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+
+    private static final String ORDER = "Order";
+    private static final String CUSTOMER = "Customer";
+    private static final String SHOPPING_CART = "ShoppingCart";
+
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    @EventListener
+    public void listen(OrderPlacedEvent event) {
+        outboxEventRecorder.record(ORDER, event.orderId(), event);
+    }
+
+    @EventListener
+    public void listen(OrderPaidEvent event) {
+        outboxEventRecorder.record(ORDER, event.orderId(), event);
+    }
+
+    @EventListener
+    public void listen(OrderReadyEvent event) {
+        outboxEventRecorder.record(ORDER, event.orderId(), event);
+    }
+
+    @EventListener
+    public void listen(OrderCanceledEvent event) {
+        outboxEventRecorder.record(ORDER, event.orderId(), event);
+    }
+
+    @EventListener
+    public void listen(CustomerRegisteredEvent event) {
+        outboxEventRecorder.record(CUSTOMER, event.customerId(), event);
+    }
+
+    @EventListener
+    public void listen(CustomerArchivedEvent event) {
+        outboxEventRecorder.record(CUSTOMER, event.customerId(), event);
+    }
+
+    @EventListener
+    public void listen(ShoppingCartCreatedEvent event) {
+        outboxEventRecorder.record(SHOPPING_CART, event.shoppingCartId(), event);
+    }
+
+    @EventListener
+    public void listen(ShoppingCartEmptiedEvent event) {
+        outboxEventRecorder.record(SHOPPING_CART, event.shoppingCartId(), event);
+    }
+
+    @EventListener
+    public void listen(ShoppingCartItemAddedEvent event) {
+        outboxEventRecorder.record(SHOPPING_CART, event.shoppingCartId(), event);
+    }
+
+    @EventListener
+    public void listen(ShoppingCartItemRemovedEvent event) {
+        outboxEventRecorder.record(SHOPPING_CART, event.shoppingCartId(), event);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.algaworks.algashop.ordering.infrastructure.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+@ConditionalOnProperty(name = "algashop.outbox.transport", havingValue = "IN_MEMORY")
+@Profile({"dev", "test"})
+public class InMemoryOutboxTransport implements OutboxTransport {
+
+    private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(OutboxMessage message) {
+        messages.add(message);
+    }
+
+    public List<OutboxMessage> messages() {
+        return List.copyOf(messages);
+    }
+
+    public void clear() {
+        messages.clear();
+    }
+}
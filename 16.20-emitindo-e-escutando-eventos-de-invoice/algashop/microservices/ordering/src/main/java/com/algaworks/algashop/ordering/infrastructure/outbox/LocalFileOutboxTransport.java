@@ -0,0 +1,46 @@
+package com.algaworks.algashop.ordering.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * Appends one JSON line per message, for local runs without a broker. Only available to the
+ * dev and test profiles, so a deployment without a broker transport configured fails to start.
+ */
+@Component
+@ConditionalOnProperty(name = "algashop.outbox.transport", havingValue = "LOCAL_FILE")
+@Profile({"dev", "test"})
+public class LocalFileOutboxTransport implements OutboxTransport {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public LocalFileOutboxTransport(@Value("${algashop.outbox.local-file.path}") Path path,
+                                    ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void send(OutboxMessage message) {
+        try {
+            Files.writeString(path, objectMapper.writeValueAsString(message) + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize outbox message " + message.id(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
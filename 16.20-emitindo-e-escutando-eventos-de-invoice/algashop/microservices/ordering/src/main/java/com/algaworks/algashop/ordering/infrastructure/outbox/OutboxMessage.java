@@ -0,0 +1,13 @@
+package com.algaworks.algashop.ordering.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.OffsetDateTime;
+
+public record OutboxMessage(Long id,
+                            String aggregateType,
+                            String aggregateId,
+                            String eventType,
+                            @JsonRawValue String payload,
+                            OffsetDateTime occurredAt) {
+}
@@ -0,0 +1,112 @@
+package com.algaworks.algashop.ordering.infrastructure.outbox;
+
+import com.algaworks.algashop.ordering.infrastructure.persistence.outbox.OutboxMessagePersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.persistence.outbox.OutboxMessagePersistenceEntityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Messages are sent outside any transaction. When a message fails, later messages of the
+ * same aggregate wait for the next poll so that each aggregate is delivered in order.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxMessagePersistenceEntityRepository repository;
+    private final OutboxTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxMessagePersistenceEntityRepository repository,
+                       OutboxTransport transport,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${algashop.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${algashop.outbox.cleanup.retention:PT24H}") Duration retention) {
+        this.repository = repository;
+        this.transport = transport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${algashop.outbox.relay.poll-interval:PT1S}")
+    public long relayPending() {
+        long relayed = 0;
+        List<OutboxMessagePersistenceEntity> batch;
+        do {
+            batch = repository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Long> published = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+            Set<String> blockedAggregates = new HashSet<>();
+
+            for (OutboxMessagePersistenceEntity entity : batch) {
+                String aggregateKey = entity.getAggregateType() + ":" + entity.getAggregateId();
+                if (blockedAggregates.contains(aggregateKey)) {
+                    continue;
+                }
+                try {
+                    transport.send(toMessage(entity));
+                    published.add(entity.getId());
+                } catch (RuntimeException e) {
+                    log.warn("Could not relay outbox message {} of {} (attempt {})",
+                            entity.getId(), aggregateKey, entity.getAttempts() + 1, e);
+                    failed.add(entity.getId());
+                    blockedAggregates.add(aggregateKey);
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!published.isEmpty()) {
+                    repository.markPublished(published, OffsetDateTime.now());
+                }
+                if (!failed.isEmpty()) {
+                    repository.incrementAttempts(failed);
+                }
+            });
+            relayed += published.size();
+
+            if (!failed.isEmpty()) {
+                break;
+            }
+        } while (batch.size() == batchSize);
+
+        return relayed;
+    }
+
+    @Scheduled(fixedDelayString = "${algashop.outbox.cleanup.interval:PT1H}")
+    public int cleanUpPublished() {
+        OffsetDateTime publishedBefore = OffsetDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> repository.deletePublishedBefore(publishedBefore));
+        log.info("Deleted {} outbox messages published before {}", deleted, publishedBefore);
+        return deleted;
+    }
+
+    private OutboxMessage toMessage(OutboxMessagePersistenceEntity entity) {
+        return new OutboxMessage(
+                entity.getId(),
+                entity.getAggregateType(),
+                entity.getAggregateId(),
+                entity.getEventType(),
+                entity.getPayload(),
+                entity.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.algaworks.algashop.ordering.infrastructure.outbox;
+
+/*
+ * Delivery is at-least-once: a message may be sent again if the relay stops before marking
+ * it as published, so receivers should deduplicate by message id.
+ */
+public interface OutboxTransport {
+    void send(OutboxMessage message);
+}
@@ -0,0 +1,36 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence;
+
+import com.algaworks.algashop.ordering.domain.model.AggregateRoot;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+public final class AggregateVersionUpdater<T extends AggregateRoot<?>> {
+
+    private static final String VERSION_FIELD_NAME = "version";
+
+    private final VarHandle versionHandle;
+
+    private AggregateVersionUpdater(VarHandle versionHandle) {
+        this.versionHandle = versionHandle;
+    }
+
+    public static <T extends AggregateRoot<?>> AggregateVersionUpdater<T> of(Class<T> aggregateType) {
+        Objects.requireNonNull(aggregateType);
+        try {
+            VarHandle versionHandle = MethodHandles.privateLookupIn(aggregateType, MethodHandles.lookup())
+                    .findVarHandle(aggregateType, VERSION_FIELD_NAME, Long.class);
+            return new AggregateVersionUpdater<>(versionHandle);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    String.format("Aggregate %s has no %s field", aggregateType.getName(), VERSION_FIELD_NAME), e);
+        }
+    }
+
+    public void update(T aggregateRoot, Long version) {
+        Objects.requireNonNull(aggregateRoot);
+        versionHandle.set(aggregateRoot, version);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence;
+
+import com.algaworks.algashop.ordering.infrastructure.utility.virtualthread.ThreadFactories;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/*
+ * Keeps the last known total per filter shape. The first request for a shape counts
+ * synchronously; afterwards stale totals are served while a background count refreshes them.
+ */
+@Component
+public class QueryCountEstimator {
+
+    private final LoadingCache<CountQuery, Long> estimates;
+
+    public QueryCountEstimator(PlatformTransactionManager transactionManager,
+                               Environment environment,
+                               @Value("${algashop.persistence.count-estimate.max-age:PT1M}") Duration maxAge,
+                               @Value("${algashop.persistence.count-estimate.max-entries:500}") int maxEntries) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .refreshAfterWrite(maxAge);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(Executors.newThreadPerTaskExecutor(ThreadFactories.named(environment, "count-estimate-")));
+        }
+        this.estimates = builder.build(query -> transactionTemplate.execute(status -> query.counter().get()));
+    }
+
+    public Long estimate(Object filterShape, Supplier<Long> counter) {
+        return estimates.get(new CountQuery(filterShape, counter));
+    }
+
+    private record CountQuery(Object filterShape, Supplier<Long> counter) {
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CountQuery that)) return false;
+            return Objects.equals(filterShape, that.filterShape);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(filterShape);
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(filterShape);
+        }
+    }
+}
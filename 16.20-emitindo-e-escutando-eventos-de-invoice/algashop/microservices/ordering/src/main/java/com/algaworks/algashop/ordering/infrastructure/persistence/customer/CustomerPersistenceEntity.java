@@ -3,6 +3,7 @@ package com.algaworks.algashop.ordering.infrastructure.persistence.customer;
 import com.algaworks.algashop.ordering.infrastructure.persistence.commons.AddressEmbeddable;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -15,6 +16,7 @@ import java.util.Collection;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @ToString(of = "id")
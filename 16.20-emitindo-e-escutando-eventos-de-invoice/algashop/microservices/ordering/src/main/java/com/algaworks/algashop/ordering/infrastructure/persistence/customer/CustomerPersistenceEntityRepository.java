@@ -1,7 +1,13 @@
 package com.algaworks.algashop.ordering.infrastructure.persistence.customer;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,4 +15,15 @@ public interface CustomerPersistenceEntityRepository
         extends JpaRepository<CustomerPersistenceEntity, UUID> {
     Optional<CustomerPersistenceEntity> findByEmail(String email);
     boolean existsByEmailAndIdNot(String email, UUID customerId);
-}
\ No newline at end of file
+
+    @Query("SELECT c.id FROM CustomerPersistenceEntity c ORDER BY c.id")
+    List<UUID> findAllIds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CustomerPersistenceEntity c WHERE c.id = :id")
+    Optional<CustomerPersistenceEntity> findForUpdate(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CustomerPersistenceEntity c WHERE c.id IN :ids ORDER BY c.id")
+    List<CustomerPersistenceEntity> findAllForUpdate(@Param("ids") Collection<UUID> ids);
+}
@@ -5,6 +5,7 @@ import com.algaworks.algashop.ordering.application.customer.query.CustomerOutput
 import com.algaworks.algashop.ordering.application.customer.query.CustomerQueryService;
 import com.algaworks.algashop.ordering.application.customer.query.CustomerSummaryOutput;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerNotFoundException;
+import com.algaworks.algashop.ordering.infrastructure.persistence.QueryCountEstimator;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.TypedQuery;
@@ -13,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +30,7 @@ import java.util.UUID;
 public class CustomerQueryServiceImpl implements CustomerQueryService {
 
     private final EntityManager entityManager;
+    private final QueryCountEstimator countEstimator;
 
     private static final String findByIdAsOutputJPQL = """
             SELECT new com.algaworks.algashop.ordering.application.customer.query.CustomerOutput(
@@ -94,7 +98,40 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
         return query.getSingleResult();
     }
 
+    @Override
+    public Slice<CustomerSummaryOutput> filterSlice(CustomerFilter filter) {
+        TypedQuery<CustomerSummaryOutput> typedQuery = createFilterQuery(filter);
+
+        typedQuery.setFirstResult(filter.getSize() * filter.getPage());
+        typedQuery.setMaxResults(filter.getSize() + 1);
+
+        List<CustomerSummaryOutput> results = typedQuery.getResultList();
+        boolean hasNext = results.size() > filter.getSize();
+        List<CustomerSummaryOutput> content = hasNext ? new ArrayList<>(results.subList(0, filter.getSize())) : results;
+
+        PageRequest pageRequest = PageRequest.of(filter.getPage(), filter.getSize());
+
+        return new SliceImpl<>(content, pageRequest, hasNext);
+    }
+
+    @Override
+    public Long estimateTotal(CustomerFilter filter) {
+        CustomerFilter filterShape = toFilterShape(filter);
+        return countEstimator.estimate(filterShape, () -> countTotalQueryResults(filterShape));
+    }
+
     private Page<CustomerSummaryOutput> filterQuery(CustomerFilter filter, Long totalQueryResults) {
+        TypedQuery<CustomerSummaryOutput> typedQuery = createFilterQuery(filter);
+
+        typedQuery.setFirstResult(filter.getSize() * filter.getPage());
+        typedQuery.setMaxResults(filter.getSize());
+
+        PageRequest pageRequest = PageRequest.of(filter.getPage(), filter.getSize());
+
+        return new PageImpl<>(typedQuery.getResultList(), pageRequest, totalQueryResults);
+    }
+
+    private TypedQuery<CustomerSummaryOutput> createFilterQuery(CustomerFilter filter) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         CriteriaQuery<CustomerSummaryOutput> criteriaQuery = builder.createQuery(CustomerSummaryOutput.class);
 
@@ -125,14 +162,7 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
             criteriaQuery.orderBy(sortOrder);
         }
 
-        TypedQuery<CustomerSummaryOutput> typedQuery = entityManager.createQuery(criteriaQuery);
-
-        typedQuery.setFirstResult(filter.getSize() * filter.getPage());
-        typedQuery.setMaxResults(filter.getSize());
-
-        PageRequest pageRequest = PageRequest.of(filter.getPage(), filter.getSize());
-
-        return new PageImpl<>(typedQuery.getResultList(), pageRequest, totalQueryResults);
+        return entityManager.createQuery(criteriaQuery);
     }
 
     private Order toSortOrder(CriteriaBuilder builder, Root<CustomerPersistenceEntity> root, CustomerFilter filter) {
@@ -163,4 +193,8 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 
         return predicates.toArray(new Predicate[]{});
     }
+
+    private static CustomerFilter toFilterShape(CustomerFilter filter) {
+        return new CustomerFilter(filter.getEmail(), filter.getFirstName());
+    }
 }
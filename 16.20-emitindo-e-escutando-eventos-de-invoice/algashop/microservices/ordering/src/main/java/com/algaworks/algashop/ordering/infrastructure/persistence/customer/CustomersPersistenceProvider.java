@@ -4,27 +4,28 @@ import com.algaworks.algashop.ordering.domain.model.customer.Customer;
 import com.algaworks.algashop.ordering.domain.model.customer.Customers;
 import com.algaworks.algashop.ordering.domain.model.commons.Email;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
-import jakarta.persistence.EntityManager;
+import com.algaworks.algashop.ordering.infrastructure.persistence.AggregateVersionUpdater;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryProjector;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Field;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CustomersPersistenceProvider implements Customers {
 
+	private static final AggregateVersionUpdater<Customer> versionUpdater =
+			AggregateVersionUpdater.of(Customer.class);
+
 	private final CustomerPersistenceEntityRepository persistenceRepository;
 	private final CustomerPersistenceEntityAssembler assembler;
 	private final CustomerPersistenceEntityDisassembler disassembler;
-
-	private final EntityManager entityManager;
+	private final OrderSummaryProjector orderSummaryProjector;
 
 	@Override
 	public Optional<Customer> ofId(CustomerId customerId) {
@@ -51,6 +52,47 @@ public class CustomersPersistenceProvider implements Customers {
 		aggregateRoot.clearDomainEvents();
 	}
 
+	@Override
+	@Transactional(readOnly = false)
+	public void addAll(Collection<Customer> aggregateRoots) {
+		if (aggregateRoots == null || aggregateRoots.isEmpty()) {
+			return;
+		}
+
+		List<UUID> customerIds = aggregateRoots.stream()
+				.map(customer -> customer.id().value())
+				.toList();
+
+		Map<UUID, CustomerPersistenceEntity> existingEntities = persistenceRepository.findAllById(customerIds)
+				.stream()
+				.collect(Collectors.toMap(CustomerPersistenceEntity::getId, entity -> entity));
+
+		Map<Customer, CustomerPersistenceEntity> persistenceEntities = new LinkedHashMap<>();
+		Map<CustomerPersistenceEntity, List<String>> summaryFieldsBefore = new HashMap<>();
+
+		for (Customer aggregateRoot : aggregateRoots) {
+			CustomerPersistenceEntity persistenceEntity = existingEntities.get(aggregateRoot.id().value());
+			if (persistenceEntity == null) {
+				persistenceEntity = assembler.fromDomain(aggregateRoot);
+			} else {
+				verifyVersion(aggregateRoot, persistenceEntity);
+				summaryFieldsBefore.put(persistenceEntity, orderSummaryProjector.summaryFieldsOf(persistenceEntity));
+				persistenceEntity = assembler.merge(persistenceEntity, aggregateRoot);
+			}
+			persistenceEntities.put(aggregateRoot, persistenceEntity);
+		}
+
+		persistenceRepository.saveAll(persistenceEntities.values());
+		persistenceRepository.flush();
+		summaryFieldsBefore.forEach((persistenceEntity, fieldsBefore) ->
+				orderSummaryProjector.customerChanged(fieldsBefore, persistenceEntity));
+
+		persistenceEntities.forEach((aggregateRoot, persistenceEntity) -> {
+			updateVersion(aggregateRoot, persistenceEntity);
+			aggregateRoot.clearDomainEvents();
+		});
+	}
+
 	@Override
 	public long count() {
 		return persistenceRepository.count();
@@ -68,9 +110,11 @@ public class CustomersPersistenceProvider implements Customers {
 	}
 
 	private void update(Customer aggregateRoot, CustomerPersistenceEntity persistenceEntity) {
+		verifyVersion(aggregateRoot, persistenceEntity);
+		List<String> summaryFieldsBefore = orderSummaryProjector.summaryFieldsOf(persistenceEntity);
 		persistenceEntity = assembler.merge(persistenceEntity, aggregateRoot);
-		entityManager.detach(persistenceEntity);
 		persistenceEntity = persistenceRepository.saveAndFlush(persistenceEntity);
+		orderSummaryProjector.customerChanged(summaryFieldsBefore, persistenceEntity);
 		updateVersion(aggregateRoot, persistenceEntity);
 	}
 
@@ -80,12 +124,14 @@ public class CustomersPersistenceProvider implements Customers {
 		updateVersion(aggregateRoot, persistenceEntity);
 	}
 
-	@SneakyThrows
+	private void verifyVersion(Customer aggregateRoot, CustomerPersistenceEntity persistenceEntity) {
+		if (!Objects.equals(aggregateRoot.version(), persistenceEntity.getVersion())) {
+			throw new ObjectOptimisticLockingFailureException(CustomerPersistenceEntity.class, persistenceEntity.getId());
+		}
+	}
+
 	private void updateVersion(Customer aggregateRoot, CustomerPersistenceEntity persistenceEntity) {
-		Field version = aggregateRoot.getClass().getDeclaredField("version");
-		version.setAccessible(true);
-		ReflectionUtils.setField(version, aggregateRoot, persistenceEntity.getVersion());
-		version.setAccessible(false);
+		versionUpdater.update(aggregateRoot, persistenceEntity.getVersion());
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.customer;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/*
+ * One row per order whose loyalty points were credited. Rows are always inserted, so crediting
+ * the same order twice fails on the primary key and rolls back the second credit.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(of = "orderId")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "loyalty_points_credit")
+public class LoyaltyPointsCreditPersistenceEntity implements Persistable<Long> {
+    @Id
+    @EqualsAndHashCode.Include
+    private Long orderId;
+    private UUID customerId;
+    private OffsetDateTime creditedAt;
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.customer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LoyaltyPointsCreditPersistenceEntityRepository
+        extends JpaRepository<LoyaltyPointsCreditPersistenceEntity, Long> {
+
+    @Query("SELECT c.orderId FROM LoyaltyPointsCreditPersistenceEntity c WHERE c.orderId IN :orderIds")
+    List<Long> findCreditedOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
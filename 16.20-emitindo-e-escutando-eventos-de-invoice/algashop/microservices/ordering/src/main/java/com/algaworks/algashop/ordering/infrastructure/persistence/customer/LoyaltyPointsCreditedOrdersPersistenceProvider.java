@@ -0,0 +1,43 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.customer;
+
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.customer.LoyaltyPointsCreditedOrders;
+import com.algaworks.algashop.ordering.domain.model.order.OrderId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LoyaltyPointsCreditedOrdersPersistenceProvider implements LoyaltyPointsCreditedOrders {
+
+    private final LoyaltyPointsCreditPersistenceEntityRepository persistenceRepository;
+
+    @Override
+    public Set<OrderId> creditedAmong(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        return persistenceRepository.findCreditedOrderIds(orderIds.stream().map(id -> id.value().toLong()).toList())
+                .stream()
+                .map(OrderId::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    @Transactional(readOnly = false)
+    public void register(CustomerId customerId, Collection<OrderId> orderIds) {
+        OffsetDateTime creditedAt = OffsetDateTime.now();
+        persistenceRepository.saveAll(orderIds.stream()
+                .map(orderId -> new LoyaltyPointsCreditPersistenceEntity(
+                        orderId.value().toLong(), customerId.value(), creditedAt))
+                .toList());
+        persistenceRepository.flush();
+    }
+}
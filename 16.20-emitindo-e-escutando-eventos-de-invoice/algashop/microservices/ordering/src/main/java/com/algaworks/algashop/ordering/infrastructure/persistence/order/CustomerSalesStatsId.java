@@ -0,0 +1,18 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSalesStatsId implements Serializable {
+    private UUID customerId;
+    private Integer salesYear;
+}
@@ -0,0 +1,36 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CustomerSalesStatsPersistenceEntityRepository
+        extends JpaRepository<CustomerSalesStatsPersistenceEntity, CustomerSalesStatsId> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CustomerSalesStatsPersistenceEntity s WHERE s.id = :id")
+    Optional<CustomerSalesStatsPersistenceEntity> findForUpdate(@Param("id") CustomerSalesStatsId id);
+
+    @Query("""
+        SELECT COALESCE(SUM(s.totalSold), 0)
+        FROM CustomerSalesStatsPersistenceEntity s
+        WHERE s.id.customerId = :customerId
+    """)
+    BigDecimal totalSoldForCustomer(@Param("customerId") UUID customerId);
+
+    @Query("SELECT s FROM CustomerSalesStatsPersistenceEntity s WHERE s.id.customerId IN :customerIds")
+    List<CustomerSalesStatsPersistenceEntity> findByCustomerIds(@Param("customerIds") Collection<UUID> customerIds);
+
+    @Modifying
+    @Query("DELETE FROM CustomerSalesStatsPersistenceEntity s WHERE s.id.customerId IN :customerIds")
+    void deleteByCustomerIds(@Param("customerIds") Collection<UUID> customerIds);
+}
@@ -0,0 +1,63 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.model.order.OrderId;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository.SalesView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Year;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerSalesStatsProjector {
+
+    private final OrderPersistenceEntityRepository orderRepository;
+    private final CustomerSalesStatsPersistenceEntityRepository statsRepository;
+    private final CustomerPersistenceEntityRepository customerRepository;
+    private final SalesCalendar salesCalendar;
+
+    @Transactional
+    public void orderPaid(OrderId orderId) {
+        orderChanged(orderId);
+    }
+
+    @Transactional
+    public void orderCanceled(OrderId orderId) {
+        orderChanged(orderId);
+    }
+
+    private void orderChanged(OrderId orderId) {
+        orderRepository.findById(orderId.value().toLong())
+                .filter(order -> order.getPlacedAt() != null)
+                .ifPresent(order -> refresh(order.getCustomer().getId(), salesCalendar.yearOf(order.getPlacedAt())));
+    }
+
+    /*
+     * Recomputes the row from the orders under its lock instead of applying a delta, so retried or
+     * repeated events are harmless and a lost one is repaired by the next event for that year.
+     */
+    private void refresh(UUID customerId, Year year) {
+        CustomerSalesStatsId id = new CustomerSalesStatsId(customerId, year.getValue());
+
+        CustomerSalesStatsPersistenceEntity stats = statsRepository.findForUpdate(id)
+                .orElseGet(() -> createLocked(id));
+
+        SalesView sales = orderRepository.salesByCustomerBetween(customerId,
+                salesCalendar.startOf(year), salesCalendar.startOf(year.plusYears(1)));
+        stats.setPaidCount(sales.getPaidCount());
+        stats.setTotalSold(sales.getTotalSold());
+    }
+
+    /*
+     * Projections run concurrently, so the first sale of a customer in a year is serialized on
+     * the customer row before the stats row is created.
+     */
+    private CustomerSalesStatsPersistenceEntity createLocked(CustomerSalesStatsId id) {
+        customerRepository.findForUpdate(id.getCustomerId());
+        return statsRepository.findForUpdate(id)
+                .orElseGet(() -> statsRepository.save(CustomerSalesStatsPersistenceEntity.empty(id)));
+    }
+}
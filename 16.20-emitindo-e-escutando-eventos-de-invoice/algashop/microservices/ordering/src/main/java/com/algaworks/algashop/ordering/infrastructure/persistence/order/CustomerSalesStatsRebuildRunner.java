@@ -0,0 +1,20 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "algashop.persistence.customer-sales-stats.rebuild.on-startup", havingValue = "true")
+public class CustomerSalesStatsRebuildRunner implements ApplicationRunner {
+
+    private final CustomerSalesStatsRebuilder rebuilder;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuilder.reconcile();
+    }
+}
@@ -0,0 +1,148 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository.PaidOrderView;
+import com.algaworks.algashop.ordering.infrastructure.utility.virtualthread.ThreadFactories;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Slf4j
+@Component
+public class CustomerSalesStatsRebuilder {
+
+    private final CustomerPersistenceEntityRepository customerRepository;
+    private final OrderPersistenceEntityRepository orderRepository;
+    private final CustomerSalesStatsPersistenceEntityRepository statsRepository;
+    private final SalesCalendar salesCalendar;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration reconcileLookBack;
+    private final ThreadFactory threadFactory;
+
+    public CustomerSalesStatsRebuilder(CustomerPersistenceEntityRepository customerRepository,
+                                       OrderPersistenceEntityRepository orderRepository,
+                                       CustomerSalesStatsPersistenceEntityRepository statsRepository,
+                                       SalesCalendar salesCalendar,
+                                       PlatformTransactionManager transactionManager,
+                                       Environment environment,
+                                       @Value("${algashop.persistence.customer-sales-stats.rebuild.chunk-size:500}") int chunkSize,
+                                       @Value("${algashop.persistence.customer-sales-stats.rebuild.parallelism:4}") int parallelism,
+                                       @Value("${algashop.persistence.customer-sales-stats.reconcile.look-back:P1D}") Duration reconcileLookBack) {
+        this.customerRepository = customerRepository;
+        this.orderRepository = orderRepository;
+        this.statsRepository = statsRepository;
+        this.salesCalendar = salesCalendar;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.reconcileLookBack = reconcileLookBack;
+        this.threadFactory = ThreadFactories.named(environment, "sales-stats-rebuild-");
+    }
+
+    public void rebuild() {
+        rebuild(customerRepository.findAllIds());
+    }
+
+    /*
+     * Checks the customers whose orders changed within the look-back window, year by year, and
+     * rebuilds those whose stats rows differ from their orders. A row left behind by a lost cancel
+     * projection or attributed to the wrong year is caught too, since both sides are compared.
+     */
+    @Scheduled(fixedDelayString = "${algashop.persistence.customer-sales-stats.reconcile.interval:PT1H}",
+            initialDelayString = "${algashop.persistence.customer-sales-stats.reconcile.interval:PT1H}")
+    public int reconcile() {
+        List<UUID> changedCustomerIds = orderRepository.customersWithOrdersModifiedSince(
+                OffsetDateTime.now().minus(reconcileLookBack));
+
+        List<UUID> customerIds = new ArrayList<>();
+        for (List<UUID> chunk : chunksOf(changedCustomerIds)) {
+            customerIds.addAll(transactionTemplate.execute(status -> outOfStepWithOrders(chunk)));
+        }
+        rebuild(customerIds);
+        return customerIds.size();
+    }
+
+    private void rebuild(List<UUID> customerIds) {
+        List<List<UUID>> chunks = chunksOf(customerIds);
+
+        log.info("Rebuilding customer sales stats for {} customers in {} chunks", customerIds.size(), chunks.size());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory)) {
+            CompletableFuture.allOf(chunks.stream()
+                    .map(chunk -> CompletableFuture.runAsync(() -> rebuildChunk(chunk), executor))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+        }
+    }
+
+    /*
+     * The customer rows are locked first, as the projector does before creating a row, so a
+     * concurrent projection either completes before the rebuild or recomputes on top of it.
+     */
+    private void rebuildChunk(List<UUID> customerIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            customerRepository.findAllForUpdate(customerIds);
+            statsRepository.deleteByCustomerIds(customerIds);
+            statsRepository.saveAll(statsFromOrders(customerIds).values());
+        });
+    }
+
+    private List<UUID> outOfStepWithOrders(List<UUID> customerIds) {
+        Map<CustomerSalesStatsId, CustomerSalesStatsPersistenceEntity> expected = statsFromOrders(customerIds);
+        Map<CustomerSalesStatsId, CustomerSalesStatsPersistenceEntity> actual = new HashMap<>();
+        statsRepository.findByCustomerIds(customerIds).forEach(stats -> actual.put(stats.getId(), stats));
+
+        Set<CustomerSalesStatsId> ids = new HashSet<>(expected.keySet());
+        ids.addAll(actual.keySet());
+        return ids.stream()
+                .filter(id -> !sameSales(expected.get(id), actual.get(id)))
+                .map(CustomerSalesStatsId::getCustomerId)
+                .distinct()
+                .toList();
+    }
+
+    private Map<CustomerSalesStatsId, CustomerSalesStatsPersistenceEntity> statsFromOrders(List<UUID> customerIds) {
+        Map<CustomerSalesStatsId, CustomerSalesStatsPersistenceEntity> stats = new HashMap<>();
+        for (PaidOrderView order : orderRepository.paidAndNotCanceledByCustomers(customerIds)) {
+            CustomerSalesStatsId id = new CustomerSalesStatsId(
+                    order.getCustomerId(),
+                    salesCalendar.yearOf(order.getPlacedAt()).getValue()
+            );
+            stats.computeIfAbsent(id, CustomerSalesStatsPersistenceEntity::empty)
+                    .add(1L, order.getTotalAmount());
+        }
+        return stats;
+    }
+
+    private static boolean sameSales(CustomerSalesStatsPersistenceEntity expected,
+                                     CustomerSalesStatsPersistenceEntity actual) {
+        long expectedCount = expected == null ? 0L : expected.getPaidCount();
+        long actualCount = actual == null ? 0L : actual.getPaidCount();
+        BigDecimal expectedTotal = expected == null ? BigDecimal.ZERO : expected.getTotalSold();
+        BigDecimal actualTotal = actual == null ? BigDecimal.ZERO : actual.getTotalSold();
+        return expectedCount == actualCount && expectedTotal.compareTo(actualTotal) == 0;
+    }
+
+    private List<List<UUID>> chunksOf(List<UUID> customerIds) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int i = 0; i < customerIds.size(); i += chunkSize) {
+            chunks.add(customerIds.subList(i, Math.min(i + chunkSize, customerIds.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,70 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.application.order.query.OrderFilter;
+import com.algaworks.algashop.ordering.application.order.query.OrderSummaryOutput;
+import com.algaworks.algashop.ordering.domain.model.order.OrderId;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+record OrderCursor(OrderFilter.SortType sortType, Sort.Direction direction, Comparable<?> sortKey, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    static OrderCursor after(OrderSummaryOutput last, OrderFilter.SortType sortType, Sort.Direction direction) {
+        return new OrderCursor(sortType, direction, sortKeyOf(last, sortType), new OrderId(last.getId()).value().toLong());
+    }
+
+    static OrderCursor decode(String token, OrderFilter.SortType sortType, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        if (parts.length < 3
+                || !sortType.name().equals(parts[0])
+                || !direction.name().equals(parts[1])) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        try {
+            Long id = Long.valueOf(parts[2]);
+            Comparable<?> sortKey = parts.length == 4 ? parseSortKey(parts[3], sortType) : null;
+            return new OrderCursor(sortType, direction, sortKey, id);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    String encode() {
+        String value = sortType.name() + SEPARATOR + direction.name() + SEPARATOR + id;
+        if (sortKey != null) {
+            value += SEPARATOR + sortKey;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Comparable<?> sortKeyOf(OrderSummaryOutput output, OrderFilter.SortType sortType) {
+        return switch (sortType) {
+            case PLACE_AT -> output.getPlacedAt();
+            case PAID_AT -> output.getPaidAt();
+            case CANCELED_AT -> output.getCanceledAt();
+            case READY_AT -> output.getReadyAt();
+            case PAYMENT_METHOD -> output.getPaymentMethod();
+            case STATUS -> output.getStatus();
+        };
+    }
+
+    private static Comparable<?> parseSortKey(String value, OrderFilter.SortType sortType) {
+        return switch (sortType) {
+            case PLACE_AT, PAID_AT, CANCELED_AT, READY_AT -> OffsetDateTime.parse(value);
+            case PAYMENT_METHOD, STATUS -> value;
+        };
+    }
+}
@@ -2,11 +2,13 @@ package com.algaworks.algashop.ordering.infrastructure.persistence.order;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "order_item")
 @Data
 @ToString(of= "id")
@@ -3,6 +3,7 @@ package com.algaworks.algashop.ordering.infrastructure.persistence.order;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -17,11 +18,16 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString(of = "id")
-@Table(name = "\"order\"")
+@Table(name = "\"order\"", indexes = {
+        @Index(name = "idx_order_customer_id_placed_at", columnList = "\"customer_id\", placed_at"),
+        @Index(name = "idx_order_last_modified_at", columnList = "last_modified_at"),
+        @Index(name = "idx_order_ready_at", columnList = "ready_at")
+})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @EntityListeners(AuditingEntityListener.class)
 public class OrderPersistenceEntity
@@ -115,13 +121,19 @@ public class OrderPersistenceEntity
     }
 
     public void replaceItems(Set<OrderItemPersistenceEntity> items) {
-        if (items == null || items.isEmpty()) {
+        if (this.getItems() == null) {
             this.setItems(new HashSet<>());
+        }
+
+        if (items == null || items.isEmpty()) {
+            this.getItems().clear();
             return;
         }
 
         items.forEach(i -> i.setOrder(this));
-        this.setItems(items);
+
+        this.getItems().retainAll(items);
+        this.getItems().addAll(items);
     }
 
     public void addItem(OrderItemPersistenceEntity item) {
@@ -1,11 +1,14 @@
 package com.algaworks.algashop.ordering.infrastructure.persistence.order;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,36 +19,85 @@ public interface OrderPersistenceEntityRepository extends JpaRepository<OrderPer
         SELECT o
         FROM OrderPersistenceEntity o
         WHERE o.customer.id = :customerId
-        AND YEAR(o.placedAt) = :year
+        AND o.placedAt >= :placedFrom
+        AND o.placedAt < :placedUntil
     """)
-    List<OrderPersistenceEntity> placedByCustomerInYear(
+    List<OrderPersistenceEntity> placedByCustomerBetween(
             @Param("customerId") UUID customerId,
-            @Param("year") Integer year
+            @Param("placedFrom") OffsetDateTime placedFrom,
+            @Param("placedUntil") OffsetDateTime placedUntil
     );
 
     @Query("""
-        SELECT COUNT(o)
+        SELECT o.customer.id AS customerId, o.placedAt AS placedAt, o.totalAmount AS totalAmount
         FROM OrderPersistenceEntity o
-        WHERE o.customer.id = :customerId
-        AND YEAR(o.placedAt) = :year
+        WHERE o.customer.id IN :customerIds
+        AND o.placedAt IS NOT NULL
         AND o.paidAt IS NOT NULL
         AND o.canceledAt IS NULL
     """)
-    long salesQuantityByCustomerInYear(
-            @Param("customerId") UUID customerId,
-            @Param("year") int year
+    List<PaidOrderView> paidAndNotCanceledByCustomers(@Param("customerIds") Collection<UUID> customerIds);
+
+    @Query("""
+        SELECT DISTINCT o.customer.id
+        FROM OrderPersistenceEntity o
+        WHERE o.lastModifiedAt >= :since
+    """)
+    List<UUID> customersWithOrdersModifiedSince(@Param("since") OffsetDateTime since);
+
+    @Query("""
+        SELECT o.id AS orderId, o.customer.id AS customerId, o.readyAt AS readyAt
+        FROM OrderPersistenceEntity o
+        WHERE o.readyAt >= :readyFrom
+        AND o.readyAt < :readyUntil
+        AND NOT EXISTS (
+            SELECT c FROM LoyaltyPointsCreditPersistenceEntity c WHERE c.orderId = o.id
+        )
+        ORDER BY o.readyAt
+    """)
+    List<ReadyOrderView> readyWithoutLoyaltyPointsCredit(
+            @Param("readyFrom") OffsetDateTime readyFrom,
+            @Param("readyUntil") OffsetDateTime readyUntil,
+            Limit limit
     );
 
     @Query("""
-        SELECT COALESCE(SUM(o.totalAmount), 0)
+        SELECT COUNT(o) AS paidCount, COALESCE(SUM(o.totalAmount), 0) AS totalSold
         FROM OrderPersistenceEntity o
         WHERE o.customer.id = :customerId
-        AND o.canceledAt IS NULL
+        AND o.placedAt >= :placedFrom
+        AND o.placedAt < :placedUntil
         AND o.paidAt IS NOT NULL
+        AND o.canceledAt IS NULL
     """)
-    BigDecimal totalSoldForCustomer(@Param("customerId") UUID customerId);
+    SalesView salesByCustomerBetween(
+            @Param("customerId") UUID customerId,
+            @Param("placedFrom") OffsetDateTime placedFrom,
+            @Param("placedUntil") OffsetDateTime placedUntil
+    );
 
     @Override
     @EntityGraph(attributePaths = {"customer", "items"})
     Optional<OrderPersistenceEntity> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"customer", "items"})
+    List<OrderPersistenceEntity> findAllById(Iterable<Long> ids);
+
+    interface PaidOrderView {
+        UUID getCustomerId();
+        OffsetDateTime getPlacedAt();
+        BigDecimal getTotalAmount();
+    }
+
+    interface ReadyOrderView {
+        Long getOrderId();
+        UUID getCustomerId();
+        OffsetDateTime getReadyAt();
+    }
+
+    interface SalesView {
+        Long getPaidCount();
+        BigDecimal getTotalSold();
+    }
 }
@@ -1,17 +1,23 @@
 package com.algaworks.algashop.ordering.infrastructure.persistence.order;
 
 import com.algaworks.algashop.ordering.application.order.query.*;
+import com.algaworks.algashop.ordering.application.utility.CursorSlice;
 import com.algaworks.algashop.ordering.application.utility.Mapper;
 import com.algaworks.algashop.ordering.application.utility.PageFilter;
 import com.algaworks.algashop.ordering.domain.model.order.OrderId;
 import com.algaworks.algashop.ordering.domain.model.order.OrderNotFoundException;
+import com.algaworks.algashop.ordering.infrastructure.persistence.QueryCountEstimator;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +35,7 @@ public class OrderQueryServiceImpl implements OrderQueryService {
     private final Mapper mapper;
 
     private final EntityManager entityManager;
+    private final QueryCountEstimator countEstimator;
 
     @Override
     public OrderDetailOutput findById(String id) {
@@ -52,7 +59,7 @@ public class OrderQueryServiceImpl implements OrderQueryService {
     private Long countTotalQueryResults(OrderFilter filter) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         CriteriaQuery<Long> criteriaQuery = builder.createQuery(Long.class);
-        Root<OrderPersistenceEntity> root = criteriaQuery.from(OrderPersistenceEntity.class);
+        Root<OrderSummaryPersistenceEntity> root = criteriaQuery.from(OrderSummaryPersistenceEntity.class);
 
         Expression<Long> count = builder.count(root);
         Predicate[] predicates = toPredicates(builder, root, filter);
@@ -65,35 +72,46 @@ public class OrderQueryServiceImpl implements OrderQueryService {
         return query.getSingleResult();
     }
 
+    @Override
+    public Slice<OrderSummaryOutput> filterSlice(OrderFilter filter) {
+        TypedQuery<OrderSummaryOutput> typedQuery = createFilterQuery(filter);
+
+        typedQuery.setFirstResult(filter.getSize() * filter.getPage());
+        typedQuery.setMaxResults(filter.getSize() + 1);
+
+        List<OrderSummaryOutput> results = typedQuery.getResultList();
+        boolean hasNext = results.size() > filter.getSize();
+        List<OrderSummaryOutput> content = hasNext ? new ArrayList<>(results.subList(0, filter.getSize())) : results;
+
+        PageRequest pageRequest = PageRequest.of(filter.getPage(), filter.getSize());
+
+        return new SliceImpl<>(content, pageRequest, hasNext);
+    }
+
+    @Override
+    public Long estimateTotal(OrderFilter filter) {
+        OrderFilter filterShape = toFilterShape(filter);
+        return countEstimator.estimate(filterShape, () -> countTotalQueryResults(filterShape));
+    }
+
     private Page<OrderSummaryOutput> filterQuery(OrderFilter filter, Long totalQueryResults) {
+        TypedQuery<OrderSummaryOutput> typedQuery = createFilterQuery(filter);
+
+        typedQuery.setFirstResult(filter.getSize() * filter.getPage());
+        typedQuery.setMaxResults(filter.getSize());
+
+        PageRequest pageRequest = PageRequest.of(filter.getPage(), filter.getSize());
+
+        return new PageImpl<>(typedQuery.getResultList(), pageRequest, totalQueryResults);
+    }
+
+    private TypedQuery<OrderSummaryOutput> createFilterQuery(OrderFilter filter) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         CriteriaQuery<OrderSummaryOutput> criteriaQuery = builder.createQuery(OrderSummaryOutput.class);
 
-        Root<OrderPersistenceEntity> root = criteriaQuery.from(OrderPersistenceEntity.class);
-
-        Path<Object> customer = root.get("customer");
-
-        criteriaQuery.select(
-                builder.construct(OrderSummaryOutput.class,
-                        root.get("id"),
-                        root.get("totalItems"),
-                        root.get("totalAmount"),
-                        root.get("placedAt"),
-                        root.get("paidAt"),
-                        root.get("canceledAt"),
-                        root.get("readyAt"),
-                        root.get("status"),
-                        root.get("paymentMethod"),
-                        builder.construct(CustomerMinimalOutput.class,
-                                customer.get("id"),
-                                customer.get("firstName"),
-                                customer.get("lastName"),
-                                customer.get("email"),
-                                customer.get("document"),
-                                customer.get("phone")
-                        )
-                    )
-        );
+        Root<OrderSummaryPersistenceEntity> root = criteriaQuery.from(OrderSummaryPersistenceEntity.class);
+
+        criteriaQuery.select(toSummarySelection(builder, root));
         Predicate[] predicates = toPredicates(builder, root, filter);
         Order sortOrder = toSortOrder(builder, root, filter);
 
@@ -102,17 +120,113 @@ public class OrderQueryServiceImpl implements OrderQueryService {
             criteriaQuery.orderBy(sortOrder);
         }
 
+        return entityManager.createQuery(criteriaQuery);
+    }
+
+    @Override
+    public CursorSlice<OrderSummaryOutput> scroll(OrderFilter filter) {
+        OrderFilter.SortType sortType = filter.getSortByPropertyOrDefault();
+        Sort.Direction direction = filter.getSortDirectionOrDefault();
+
+        HibernateCriteriaBuilder builder = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<OrderSummaryOutput> criteriaQuery = builder.createQuery(OrderSummaryOutput.class);
+
+        Root<OrderSummaryPersistenceEntity> root = criteriaQuery.from(OrderSummaryPersistenceEntity.class);
+
+        criteriaQuery.select(toSummarySelection(builder, root));
+
+        List<Predicate> predicates = new ArrayList<>(List.of(toPredicates(builder, root, filter)));
+        if (filter.getCursor() != null) {
+            OrderCursor cursor = OrderCursor.decode(filter.getCursor(), sortType, direction);
+            predicates.add(toKeysetPredicate(builder, root, cursor));
+        }
+
+        criteriaQuery.where(predicates.toArray(new Predicate[]{}));
+        criteriaQuery.orderBy(toKeysetOrder(builder, root, sortType, direction));
+
         TypedQuery<OrderSummaryOutput> typedQuery = entityManager.createQuery(criteriaQuery);
+        typedQuery.setMaxResults(filter.getSize() + 1);
 
-        typedQuery.setFirstResult(filter.getSize() * filter.getPage());
-        typedQuery.setMaxResults(filter.getSize());
+        List<OrderSummaryOutput> results = typedQuery.getResultList();
 
-        PageRequest pageRequest = PageRequest.of(filter.getPage(), filter.getSize());
+        if (results.size() <= filter.getSize()) {
+            return new CursorSlice<>(results, null);
+        }
 
-        return new PageImpl<>(typedQuery.getResultList(), pageRequest, totalQueryResults);
+        List<OrderSummaryOutput> content = results.subList(0, filter.getSize());
+        OrderCursor nextCursor = OrderCursor.after(content.getLast(), sortType, direction);
+
+        return new CursorSlice<>(new ArrayList<>(content), nextCursor.encode());
     }
 
-    private Order toSortOrder(CriteriaBuilder builder, Root<OrderPersistenceEntity> root, OrderFilter filter) {
+    private Selection<OrderSummaryOutput> toSummarySelection(CriteriaBuilder builder, Root<OrderSummaryPersistenceEntity> root) {
+        return builder.construct(OrderSummaryOutput.class,
+                root.get("id"),
+                root.get("totalItems"),
+                root.get("totalAmount"),
+                root.get("placedAt"),
+                root.get("paidAt"),
+                root.get("canceledAt"),
+                root.get("readyAt"),
+                root.get("status"),
+                root.get("paymentMethod"),
+                builder.construct(CustomerMinimalOutput.class,
+                        root.get("customerId"),
+                        root.get("customerFirstName"),
+                        root.get("customerLastName"),
+                        root.get("customerEmail"),
+                        root.get("customerDocument"),
+                        root.get("customerPhone")
+                )
+        );
+    }
+
+    /*
+     * Nulls sort first ascending and last descending, with the id as tie-breaker,
+     * so (sortKey, id) is a total order the cursor predicate can seek into.
+     */
+    private List<Order> toKeysetOrder(HibernateCriteriaBuilder builder, Root<OrderSummaryPersistenceEntity> root,
+                                      OrderFilter.SortType sortType, Sort.Direction direction) {
+        Path<Object> sortKey = root.get(sortType.getPropertyName());
+        Path<Object> id = root.get("id");
+
+        if (direction == Sort.Direction.DESC) {
+            return List.of(builder.desc(sortKey, false), builder.desc(id));
+        }
+
+        return List.of(builder.asc(sortKey, true), builder.asc(id));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate toKeysetPredicate(CriteriaBuilder builder, Root<OrderSummaryPersistenceEntity> root, OrderCursor cursor) {
+        Path<Comparable> sortKey = root.get(cursor.sortType().getPropertyName());
+        Path<Long> id = root.get("id");
+        Comparable lastSortKey = cursor.sortKey();
+
+        if (cursor.direction() == Sort.Direction.DESC) {
+            if (lastSortKey == null) {
+                return builder.and(builder.isNull(sortKey), builder.lessThan(id, cursor.id()));
+            }
+            return builder.or(
+                    builder.lessThan(sortKey, lastSortKey),
+                    builder.and(builder.equal(sortKey, lastSortKey), builder.lessThan(id, cursor.id())),
+                    builder.isNull(sortKey)
+            );
+        }
+
+        if (lastSortKey == null) {
+            return builder.or(
+                    builder.and(builder.isNull(sortKey), builder.greaterThan(id, cursor.id())),
+                    builder.isNotNull(sortKey)
+            );
+        }
+        return builder.or(
+                builder.greaterThan(sortKey, lastSortKey),
+                builder.and(builder.equal(sortKey, lastSortKey), builder.greaterThan(id, cursor.id()))
+        );
+    }
+
+    private Order toSortOrder(CriteriaBuilder builder, Root<OrderSummaryPersistenceEntity> root, OrderFilter filter) {
 
         if (filter.getSortDirectionOrDefault() == Sort.Direction.ASC) {
             return builder.asc(root.get(filter.getSortByPropertyOrDefault().getPropertyName()));
@@ -126,11 +240,11 @@ public class OrderQueryServiceImpl implements OrderQueryService {
     }
 
     private Predicate[] toPredicates(CriteriaBuilder builder,
-                                     Root<OrderPersistenceEntity> root, OrderFilter filter) {
+                                     Root<OrderSummaryPersistenceEntity> root, OrderFilter filter) {
         List<Predicate> predicates = new ArrayList<>();
 
         if (filter.getCustomerId() != null) {
-            predicates.add(builder.equal(root.get("customer").get("id"), filter.getCustomerId()));
+            predicates.add(builder.equal(root.get("customerId"), filter.getCustomerId()));
         }
 
         if (filter.getStatus() != null && !filter.getStatus().isBlank()) {
@@ -166,4 +280,17 @@ public class OrderQueryServiceImpl implements OrderQueryService {
 
         return predicates.toArray(new Predicate[]{});
     }
+
+    private static OrderFilter toFilterShape(OrderFilter filter) {
+        return new OrderFilter(
+                filter.getStatus(),
+                filter.getOrderId(),
+                filter.getCustomerId(),
+                filter.getPlacedAtFrom(),
+                filter.getPlacedAtTo(),
+                filter.getTotalAmountFrom(),
+                filter.getTotalAmountTo(),
+                null
+        );
+    }
 }
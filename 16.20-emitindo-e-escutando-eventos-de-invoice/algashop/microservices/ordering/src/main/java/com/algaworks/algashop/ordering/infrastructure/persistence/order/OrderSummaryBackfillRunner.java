@@ -0,0 +1,20 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "algashop.persistence.order-summary.backfill.on-startup", havingValue = "true")
+public class OrderSummaryBackfillRunner implements ApplicationRunner {
+
+    private final OrderSummaryProjector projector;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        projector.backfill();
+    }
+}
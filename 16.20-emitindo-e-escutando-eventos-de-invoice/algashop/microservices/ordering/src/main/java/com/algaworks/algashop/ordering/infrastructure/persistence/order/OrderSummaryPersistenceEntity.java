@@ -0,0 +1,56 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/*
+ * Read model for order lists: the order columns plus the customer columns shown with them, so
+ * filtering and sorting never join the customer table. Sort indexes end with the id because
+ * the cursor pagination orders by (sort key, id).
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(of = "id")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "order_summary", indexes = {
+        @Index(name = "idx_order_summary_customer_id_placed_at", columnList = "customer_id, placed_at"),
+        @Index(name = "idx_order_summary_status_placed_at", columnList = "status, placed_at"),
+        @Index(name = "idx_order_summary_status", columnList = "status, id"),
+        @Index(name = "idx_order_summary_placed_at", columnList = "placed_at, id"),
+        @Index(name = "idx_order_summary_paid_at", columnList = "paid_at, id"),
+        @Index(name = "idx_order_summary_canceled_at", columnList = "canceled_at, id"),
+        @Index(name = "idx_order_summary_ready_at", columnList = "ready_at, id"),
+        @Index(name = "idx_order_summary_payment_method", columnList = "payment_method, id"),
+        @Index(name = "idx_order_summary_total_amount", columnList = "total_amount")
+})
+public class OrderSummaryPersistenceEntity {
+    @Id
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    private UUID customerId;
+    private String customerFirstName;
+    private String customerLastName;
+    private String customerEmail;
+    private String customerDocument;
+    private String customerPhone;
+
+    private BigDecimal totalAmount;
+    private Integer totalItems;
+    private String status;
+    private String paymentMethod;
+
+    private OffsetDateTime placedAt;
+    private OffsetDateTime paidAt;
+    private OffsetDateTime canceledAt;
+    private OffsetDateTime readyAt;
+}
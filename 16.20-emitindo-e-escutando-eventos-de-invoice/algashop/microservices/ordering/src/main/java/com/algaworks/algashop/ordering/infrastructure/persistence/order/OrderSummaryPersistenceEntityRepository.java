@@ -0,0 +1,83 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface OrderSummaryPersistenceEntityRepository
+        extends JpaRepository<OrderSummaryPersistenceEntity, Long> {
+
+    @Modifying
+    @Query("""
+        INSERT INTO OrderSummaryPersistenceEntity (
+            id, customerId, customerFirstName, customerLastName, customerEmail, customerDocument, customerPhone,
+            totalAmount, totalItems, status, paymentMethod, placedAt, paidAt, canceledAt, readyAt
+        )
+        SELECT o.id, c.id, c.firstName, c.lastName, c.email, c.document, c.phone,
+            o.totalAmount, o.totalItems, o.status, o.paymentMethod, o.placedAt, o.paidAt, o.canceledAt, o.readyAt
+        FROM OrderPersistenceEntity o
+        JOIN o.customer c
+        WHERE o.id IN :orderIds
+    """)
+    int insertFromOrders(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query("""
+        INSERT INTO OrderSummaryPersistenceEntity (
+            id, customerId, customerFirstName, customerLastName, customerEmail, customerDocument, customerPhone,
+            totalAmount, totalItems, status, paymentMethod, placedAt, paidAt, canceledAt, readyAt
+        )
+        SELECT o.id, c.id, c.firstName, c.lastName, c.email, c.document, c.phone,
+            o.totalAmount, o.totalItems, o.status, o.paymentMethod, o.placedAt, o.paidAt, o.canceledAt, o.readyAt
+        FROM OrderPersistenceEntity o
+        JOIN o.customer c
+        WHERE NOT EXISTS (SELECT 1 FROM OrderSummaryPersistenceEntity s WHERE s.id = o.id)
+    """)
+    int insertMissing();
+
+    @Modifying
+    @Query("""
+        UPDATE OrderSummaryPersistenceEntity s
+        SET s.totalAmount = :totalAmount,
+            s.totalItems = :totalItems,
+            s.status = :status,
+            s.paymentMethod = :paymentMethod,
+            s.placedAt = :placedAt,
+            s.paidAt = :paidAt,
+            s.canceledAt = :canceledAt,
+            s.readyAt = :readyAt
+        WHERE s.id = :orderId
+    """)
+    int updateOrder(@Param("orderId") Long orderId,
+                    @Param("totalAmount") BigDecimal totalAmount,
+                    @Param("totalItems") Integer totalItems,
+                    @Param("status") String status,
+                    @Param("paymentMethod") String paymentMethod,
+                    @Param("placedAt") OffsetDateTime placedAt,
+                    @Param("paidAt") OffsetDateTime paidAt,
+                    @Param("canceledAt") OffsetDateTime canceledAt,
+                    @Param("readyAt") OffsetDateTime readyAt);
+
+    @Modifying
+    @Query("""
+        UPDATE OrderSummaryPersistenceEntity s
+        SET s.customerFirstName = :firstName,
+            s.customerLastName = :lastName,
+            s.customerEmail = :email,
+            s.customerDocument = :document,
+            s.customerPhone = :phone
+        WHERE s.customerId = :customerId
+    """)
+    int updateCustomer(@Param("customerId") UUID customerId,
+                       @Param("firstName") String firstName,
+                       @Param("lastName") String lastName,
+                       @Param("email") String email,
+                       @Param("document") String document,
+                       @Param("phone") String phone);
+}
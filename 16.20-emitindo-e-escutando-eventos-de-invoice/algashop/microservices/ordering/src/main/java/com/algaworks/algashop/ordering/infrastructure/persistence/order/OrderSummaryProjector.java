@@ -0,0 +1,74 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Keeps order_summary in step with the order and customer tables. It runs in the writing
+ * transaction, after the flush, so a listed order always matches its aggregate.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+
+    private final OrderSummaryPersistenceEntityRepository summaryRepository;
+
+    @Transactional
+    public void ordersInserted(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        summaryRepository.insertFromOrders(orderIds);
+    }
+
+    public List<Object> summaryFieldsOf(OrderPersistenceEntity order) {
+        return Arrays.asList(order.getTotalAmount(), order.getTotalItems(), order.getStatus(),
+                order.getPaymentMethod(), order.getPlacedAt(), order.getPaidAt(), order.getCanceledAt(),
+                order.getReadyAt());
+    }
+
+    /*
+     * An order written before order_summary existed has no row to update yet, so it gets one.
+     */
+    @Transactional
+    public void orderChanged(List<Object> summaryFieldsBefore, OrderPersistenceEntity order) {
+        if (summaryFieldsBefore.equals(summaryFieldsOf(order))) {
+            return;
+        }
+        int updated = summaryRepository.updateOrder(order.getId(), order.getTotalAmount(), order.getTotalItems(),
+                order.getStatus(), order.getPaymentMethod(), order.getPlacedAt(), order.getPaidAt(),
+                order.getCanceledAt(), order.getReadyAt());
+        if (updated == 0) {
+            summaryRepository.insertFromOrders(List.of(order.getId()));
+        }
+    }
+
+    public List<String> summaryFieldsOf(CustomerPersistenceEntity customer) {
+        return Arrays.asList(customer.getFirstName(), customer.getLastName(), customer.getEmail(),
+                customer.getDocument(), customer.getPhone());
+    }
+
+    @Transactional
+    public void customerChanged(List<String> summaryFieldsBefore, CustomerPersistenceEntity customer) {
+        if (summaryFieldsBefore.equals(summaryFieldsOf(customer))) {
+            return;
+        }
+        summaryRepository.updateCustomer(customer.getId(), customer.getFirstName(), customer.getLastName(),
+                customer.getEmail(), customer.getDocument(), customer.getPhone());
+    }
+
+    @Transactional
+    public int backfill() {
+        int inserted = summaryRepository.insertMissing();
+        log.info("Backfilled {} order summaries", inserted);
+        return inserted;
+    }
+}
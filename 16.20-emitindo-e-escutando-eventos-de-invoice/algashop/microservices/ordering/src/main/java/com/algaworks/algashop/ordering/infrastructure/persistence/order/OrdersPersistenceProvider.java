@@ -5,17 +5,15 @@ import com.algaworks.algashop.ordering.domain.model.order.Orders;
 import com.algaworks.algashop.ordering.domain.model.commons.Money;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import com.algaworks.algashop.ordering.domain.model.order.OrderId;
-import jakarta.persistence.EntityManager;
+import com.algaworks.algashop.ordering.infrastructure.persistence.AggregateVersionUpdater;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Field;
+import java.time.OffsetDateTime;
 import java.time.Year;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,11 +21,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OrdersPersistenceProvider implements Orders {
 
+    private static final AggregateVersionUpdater<Order> versionUpdater =
+            AggregateVersionUpdater.of(Order.class);
+
     private final OrderPersistenceEntityRepository persistenceRepository;
     private final OrderPersistenceEntityAssembler assembler;
     private final OrderPersistenceEntityDisassembler disassembler;
-
-    private final EntityManager entityManager;
+    private final CustomerSalesStatsPersistenceEntityRepository salesStatsRepository;
+    private final OrderSummaryProjector summaryProjector;
+    private final SalesCalendar salesCalendar;
 
     @Override
     public Optional<Order> ofId(OrderId orderId) {
@@ -36,6 +38,17 @@ public class OrdersPersistenceProvider implements Orders {
         return possibleEntity.map(disassembler::toDomainEntity);
     }
 
+    @Override
+    public List<Order> ofIds(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return persistenceRepository.findAllById(orderIds.stream().map(id -> id.value().toLong()).toList())
+                .stream()
+                .map(disassembler::toDomainEntity)
+                .toList();
+    }
+
     @Override
     public boolean exists(OrderId orderId) {
         return persistenceRepository.existsById(orderId.value().toLong());
@@ -59,11 +72,54 @@ public class OrdersPersistenceProvider implements Orders {
             );
     }
 
+    @Override
+    @Transactional(readOnly = false)
+    public void addAll(Collection<Order> aggregateRoots) {
+        if (aggregateRoots == null || aggregateRoots.isEmpty()) {
+            return;
+        }
+
+        List<Long> orderIds = aggregateRoots.stream()
+                .map(order -> order.id().value().toLong())
+                .toList();
+
+        Map<Long, OrderPersistenceEntity> existingEntities = persistenceRepository.findAllById(orderIds)
+                .stream()
+                .collect(Collectors.toMap(OrderPersistenceEntity::getId, entity -> entity));
+
+        Map<Order, OrderPersistenceEntity> persistenceEntities = new LinkedHashMap<>();
+        Map<OrderPersistenceEntity, List<Object>> summaryFieldsBefore = new LinkedHashMap<>();
+        List<Long> insertedOrderIds = new ArrayList<>();
+
+        for (Order aggregateRoot : aggregateRoots) {
+            OrderPersistenceEntity persistenceEntity = existingEntities.get(aggregateRoot.id().value().toLong());
+            if (persistenceEntity == null) {
+                persistenceEntity = assembler.fromDomain(aggregateRoot);
+                insertedOrderIds.add(persistenceEntity.getId());
+            } else {
+                verifyVersion(aggregateRoot, persistenceEntity);
+                List<Object> fieldsBefore = summaryProjector.summaryFieldsOf(persistenceEntity);
+                persistenceEntity = assembler.merge(persistenceEntity, aggregateRoot);
+                summaryFieldsBefore.put(persistenceEntity, fieldsBefore);
+            }
+            persistenceEntities.put(aggregateRoot, persistenceEntity);
+        }
+
+        persistenceRepository.saveAll(persistenceEntities.values());
+        persistenceRepository.flush();
+        summaryProjector.ordersInserted(insertedOrderIds);
+        summaryFieldsBefore.forEach((persistenceEntity, fieldsBefore) ->
+                summaryProjector.orderChanged(fieldsBefore, persistenceEntity));
+
+        persistenceEntities.forEach(this::updateVersion);
+    }
+
     @Override
     public List<Order> placedByCustomerInYear(CustomerId customerId, Year year) {
-        List<OrderPersistenceEntity> entities = persistenceRepository.placedByCustomerInYear(
+        List<OrderPersistenceEntity> entities = persistenceRepository.placedByCustomerBetween(
                 customerId.value(),
-                year.getValue()
+                salesCalendar.startOf(year),
+                salesCalendar.startOf(year.plusYears(1))
         );
 
         return entities.stream().map(disassembler::toDomainEntity).collect(Collectors.toList());
@@ -71,33 +127,40 @@ public class OrdersPersistenceProvider implements Orders {
 
     @Override
     public long salesQuantityByCustomerInYear(CustomerId customerId, Year year) {
-        return this.persistenceRepository.salesQuantityByCustomerInYear(customerId.value(), year.getValue());
+        return this.salesStatsRepository.findById(new CustomerSalesStatsId(customerId.value(), year.getValue()))
+                .map(CustomerSalesStatsPersistenceEntity::getPaidCount)
+                .orElse(0L);
     }
 
     @Override
     public Money totalSoldForCustomer(CustomerId customerId) {
-        return new Money(this.persistenceRepository.totalSoldForCustomer(customerId.value()));
+        return new Money(this.salesStatsRepository.totalSoldForCustomer(customerId.value()));
     }
 
     private void update(Order aggregateRoot, OrderPersistenceEntity persistenceEntity) {
+        verifyVersion(aggregateRoot, persistenceEntity);
+        List<Object> summaryFieldsBefore = summaryProjector.summaryFieldsOf(persistenceEntity);
         persistenceEntity = assembler.merge(persistenceEntity, aggregateRoot);
-        entityManager.detach(persistenceEntity);
         persistenceEntity = persistenceRepository.saveAndFlush(persistenceEntity);
+        summaryProjector.orderChanged(summaryFieldsBefore, persistenceEntity);
         updateVersion(aggregateRoot, persistenceEntity);
     }
 
     private void insert(Order aggregateRoot) {
         OrderPersistenceEntity persistenceEntity = assembler.fromDomain(aggregateRoot);
         persistenceRepository.saveAndFlush(persistenceEntity);
+        summaryProjector.ordersInserted(List.of(persistenceEntity.getId()));
         updateVersion(aggregateRoot, persistenceEntity);
     }
 
-    @SneakyThrows
+    private void verifyVersion(Order aggregateRoot, OrderPersistenceEntity persistenceEntity) {
+        if (!Objects.equals(aggregateRoot.version(), persistenceEntity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(OrderPersistenceEntity.class, persistenceEntity.getId());
+        }
+    }
+
     private void updateVersion(Order aggregateRoot, OrderPersistenceEntity persistenceEntity) {
-        Field version = aggregateRoot.getClass().getDeclaredField("version");
-        version.setAccessible(true);
-        ReflectionUtils.setField(version, aggregateRoot, persistenceEntity.getVersion());
-        version.setAccessible(false);
+        versionUpdater.update(aggregateRoot, persistenceEntity.getVersion());
     }
 
 }
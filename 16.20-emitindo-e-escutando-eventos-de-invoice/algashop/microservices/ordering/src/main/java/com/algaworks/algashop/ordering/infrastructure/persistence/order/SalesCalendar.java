@@ -0,0 +1,30 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+
+/*
+ * Sales are attributed to years in one configured zone, so the order queries, the live projection
+ * and the rebuild agree on the year of an order placed around New Year whatever the server zone is.
+ */
+@Component
+public class SalesCalendar {
+
+    private final ZoneId zone;
+
+    public SalesCalendar(@Value("${algashop.persistence.sales.time-zone:UTC}") ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public Year yearOf(OffsetDateTime placedAt) {
+        return Year.from(placedAt.atZoneSameInstant(zone));
+    }
+
+    public OffsetDateTime startOf(Year year) {
+        return year.atDay(1).atStartOfDay(zone).toOffsetDateTime();
+    }
+}
@@ -0,0 +1,53 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.outbox;
+
+import com.algaworks.algashop.ordering.domain.model.IdGenerator;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.order.OrderId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartId;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.hypersistence.tsid.TSID;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+@Component
+public class OutboxEventRecorder {
+
+    private final OutboxMessagePersistenceEntityRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventRecorder(OutboxMessagePersistenceEntityRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper.copy().registerModule(new SimpleModule()
+                .addSerializer(TSID.class, ToStringSerializer.instance)
+                .addSerializer(OrderId.class, ToStringSerializer.instance)
+                .addSerializer(CustomerId.class, ToStringSerializer.instance)
+                .addSerializer(ShoppingCartId.class, ToStringSerializer.instance)
+                .addSerializer(ProductId.class, ToStringSerializer.instance));
+    }
+
+    public void record(String aggregateType, Object aggregateId, Object event) {
+        repository.save(new OutboxMessagePersistenceEntity(
+                IdGenerator.generateTSID().toLong(),
+                aggregateType,
+                aggregateId.toString(),
+                event.getClass().getSimpleName(),
+                toJson(event),
+                OffsetDateTime.now(),
+                null,
+                0
+        ));
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/*
+ * Ids are TSIDs, so relaying in id order keeps the events of each aggregate in the order
+ * they were recorded. Rows are only inserted through the repository; the relay updates
+ * them with bulk statements.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(of = "id")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "outbox_message", indexes = @Index(name = "idx_outbox_message_published_at", columnList = "published_at"))
+public class OutboxMessagePersistenceEntity implements Persistable<Long> {
+    @Id
+    @EqualsAndHashCode.Include
+    private Long id;
+    private String aggregateType;
+    private String aggregateId;
+    private String eventType;
+    @Lob
+    private String payload;
+    private OffsetDateTime occurredAt;
+    private OffsetDateTime publishedAt;
+    private Integer attempts;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
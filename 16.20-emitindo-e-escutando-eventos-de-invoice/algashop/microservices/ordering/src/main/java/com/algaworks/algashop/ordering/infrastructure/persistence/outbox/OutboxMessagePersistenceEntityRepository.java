@@ -0,0 +1,29 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMessagePersistenceEntityRepository
+        extends JpaRepository<OutboxMessagePersistenceEntity, Long> {
+
+    List<OutboxMessagePersistenceEntity> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+
+    @Modifying
+    @Query("UPDATE OutboxMessagePersistenceEntity m SET m.publishedAt = :publishedAt WHERE m.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") OffsetDateTime publishedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxMessagePersistenceEntity m SET m.attempts = m.attempts + 1 WHERE m.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessagePersistenceEntity m WHERE m.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") OffsetDateTime publishedBefore);
+}
@@ -2,6 +2,7 @@ package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -13,13 +14,17 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Data
 @ToString(of = "id")
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "shopping_cart_item")
+@Table(name = "shopping_cart_item", indexes = {
+		@Index(name = "idx_shopping_cart_item_product_id", columnList = "product_id"),
+		@Index(name = "idx_shopping_cart_item_cart_product", columnList = "\"shopping_cart_id\", product_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class ShoppingCartItemPersistenceEntity {
 	@Id
@@ -3,6 +3,7 @@ package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -18,6 +19,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @ToString(of = "id")
@@ -92,13 +94,19 @@ public class ShoppingCartPersistenceEntity
 	}
 
 	public void replaceItems(Set<ShoppingCartItemPersistenceEntity> updatedItems) {
-		if (updatedItems == null || updatedItems.isEmpty()) {
+		if (this.getItems() == null) {
 			this.setItems(new HashSet<>());
+		}
+
+		if (updatedItems == null || updatedItems.isEmpty()) {
+			this.getItems().clear();
 			return;
 		}
 
 		updatedItems.forEach(i -> i.setShoppingCart(this));
-		this.setItems(updatedItems);
+
+		this.getItems().retainAll(updatedItems);
+		this.getItems().addAll(updatedItems);
 	}
 
 	public Collection<Object> getEvents() {
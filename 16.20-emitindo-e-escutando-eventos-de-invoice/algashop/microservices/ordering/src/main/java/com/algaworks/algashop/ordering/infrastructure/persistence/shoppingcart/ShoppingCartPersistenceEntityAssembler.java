@@ -6,7 +6,9 @@ import com.algaworks.algashop.ordering.infrastructure.persistence.customer.Custo
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,11 +28,28 @@ public class ShoppingCartPersistenceEntityAssembler {
         persistenceEntity.setTotalAmount(shoppingCart.totalAmount().value());
         persistenceEntity.setTotalItems(shoppingCart.totalItems().value());
         persistenceEntity.setCreatedAt(shoppingCart.createdAt());
-        persistenceEntity.replaceItems(toOrderItemsEntities(shoppingCart.items()));
+        persistenceEntity.replaceItems(mergeItems(shoppingCart, persistenceEntity));
         persistenceEntity.addEvents(shoppingCart.domainEvents());
         return persistenceEntity;
     }
 
+    private Set<ShoppingCartItemPersistenceEntity> mergeItems(ShoppingCart shoppingCart,
+                                                              ShoppingCartPersistenceEntity persistenceEntity) {
+        Set<ShoppingCartItemPersistenceEntity> existingItems = persistenceEntity.getItems();
+        if (existingItems == null || existingItems.isEmpty()) {
+            return toOrderItemsEntities(shoppingCart.items());
+        }
+
+        Map<UUID, ShoppingCartItemPersistenceEntity> existingItemMap = existingItems.stream()
+                .collect(Collectors.toMap(ShoppingCartItemPersistenceEntity::getId, item -> item));
+
+        return shoppingCart.items().stream()
+                .map(item -> this.mergeItem(
+                        existingItemMap.getOrDefault(item.id().value(), new ShoppingCartItemPersistenceEntity()),
+                        item))
+                .collect(Collectors.toSet());
+    }
+
     private Set<ShoppingCartItemPersistenceEntity> toOrderItemsEntities(Set<ShoppingCartItem> source) {
         return source.stream().map(i -> this.mergeItem(new ShoppingCartItemPersistenceEntity(), i)).collect(Collectors.toSet());
     }
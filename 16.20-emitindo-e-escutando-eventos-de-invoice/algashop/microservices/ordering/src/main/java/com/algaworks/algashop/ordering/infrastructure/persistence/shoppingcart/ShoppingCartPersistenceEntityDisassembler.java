@@ -19,6 +19,7 @@ public class ShoppingCartPersistenceEntityDisassembler {
     public ShoppingCart toDomainEntity(ShoppingCartPersistenceEntity source) {
         return ShoppingCart.existing()
                 .id(new ShoppingCartId(source.getId()))
+                .version(source.getVersion())
                 .customerId(new CustomerId(source.getCustomerId()))
                 .totalAmount(new Money(source.getTotalAmount()))
                 .createdAt(source.getCreatedAt())
@@ -1,5 +1,6 @@
 package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -7,12 +8,17 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ShoppingCartPersistenceEntityRepository extends JpaRepository<ShoppingCartPersistenceEntity, UUID> {
 	Optional<ShoppingCartPersistenceEntity> findByCustomer_Id(UUID value);
 
+	@Override
+	@EntityGraph(attributePaths = {"customer", "items"})
+	List<ShoppingCartPersistenceEntity> findAllById(Iterable<UUID> ids);
+
 	@Modifying
 	@Transactional
 	@Query("""
@@ -56,4 +62,65 @@ public interface ShoppingCartPersistenceEntityRepository extends JpaRepository<S
 				AND i2.productId = :productId)
 		""")
 	void recalculateTotalsForCartsWithProduct(@Param("productId") UUID productId);
-}
\ No newline at end of file
+
+	@Modifying
+	@Query("""
+		UPDATE
+			ShoppingCartItemPersistenceEntity i
+		SET
+			i.price = (
+				SELECT c.price
+				FROM ShoppingCartProductChangePersistenceEntity c
+				WHERE c.id.batchId = :batchId
+				AND c.id.productId = i.productId
+			),
+			i.totalAmount = i.quantity * (
+				SELECT c.price
+				FROM ShoppingCartProductChangePersistenceEntity c
+				WHERE c.id.batchId = :batchId
+				AND c.id.productId = i.productId
+			)
+		WHERE
+			i.productId IN (SELECT c.id.productId
+				FROM ShoppingCartProductChangePersistenceEntity c
+				WHERE c.id.batchId = :batchId)
+		""")
+	int updateItemPricesFromBatch(@Param("batchId") UUID batchId);
+
+	@Modifying
+	@Query("""
+		UPDATE
+			ShoppingCartItemPersistenceEntity i
+		SET
+			i.available = (
+				SELECT c.available
+				FROM ShoppingCartProductChangePersistenceEntity c
+				WHERE c.id.batchId = :batchId
+				AND c.id.productId = i.productId
+			)
+		WHERE
+			i.productId IN (SELECT c.id.productId
+				FROM ShoppingCartProductChangePersistenceEntity c
+				WHERE c.id.batchId = :batchId)
+		""")
+	int updateItemAvailabilityFromBatch(@Param("batchId") UUID batchId);
+
+	@Modifying
+	@Query("""
+		UPDATE
+			ShoppingCartPersistenceEntity sc
+		SET
+			sc.totalAmount = (
+				SELECT SUM(i.totalAmount)
+				FROM ShoppingCartItemPersistenceEntity i
+				WHERE i.shoppingCart.id = sc.id
+			)
+		WHERE
+			EXISTS (SELECT 1
+				FROM ShoppingCartItemPersistenceEntity i2, ShoppingCartProductChangePersistenceEntity c
+				WHERE i2.shoppingCart.id = sc.id
+				AND c.id.batchId = :batchId
+				AND c.id.productId = i2.productId)
+		""")
+	int recalculateTotalsForCartsInBatch(@Param("batchId") UUID batchId);
+}
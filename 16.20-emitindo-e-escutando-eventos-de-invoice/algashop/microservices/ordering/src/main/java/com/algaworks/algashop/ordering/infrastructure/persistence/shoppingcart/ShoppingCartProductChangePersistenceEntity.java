@@ -0,0 +1,33 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+/*
+ * Staging row for bulk product changes. Rows live only inside the transaction that applies
+ * their batch.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(of = "id")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "shopping_cart_product_change")
+public class ShoppingCartProductChangePersistenceEntity implements Persistable<ShoppingCartProductChangeId> {
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private ShoppingCartProductChangeId id;
+    private BigDecimal price;
+    private Boolean available;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface ShoppingCartProductChangePersistenceEntityRepository
+        extends JpaRepository<ShoppingCartProductChangePersistenceEntity, ShoppingCartProductChangeId> {
+
+    @Modifying
+    @Query("DELETE FROM ShoppingCartProductChangePersistenceEntity c WHERE c.id.batchId = :batchId")
+    void deleteByBatchId(@Param("batchId") UUID batchId);
+}
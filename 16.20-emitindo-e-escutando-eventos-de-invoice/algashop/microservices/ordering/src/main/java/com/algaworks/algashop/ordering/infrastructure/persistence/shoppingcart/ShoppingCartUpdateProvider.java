@@ -1,28 +1,128 @@
 package com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart;
 
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ProductAvailabilityChange;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ProductPriceAdjustment;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartProductAdjustmentService;
 import com.algaworks.algashop.ordering.domain.model.commons.Money;
 import com.algaworks.algashop.ordering.domain.model.product.ProductId;
-import lombok.RequiredArgsConstructor;
+import com.algaworks.algashop.ordering.infrastructure.product.client.ProductNearCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class ShoppingCartUpdateProvider implements ShoppingCartProductAdjustmentService {
 
     private final ShoppingCartPersistenceEntityRepository shoppingCartPersistenceEntityRepository;
+    private final ShoppingCartProductChangePersistenceEntityRepository productChangeRepository;
+    private final ProductNearCache productNearCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ShoppingCartUpdateProvider(ShoppingCartPersistenceEntityRepository shoppingCartPersistenceEntityRepository,
+                                      ShoppingCartProductChangePersistenceEntityRepository productChangeRepository,
+                                      ProductNearCache productNearCache,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${algashop.persistence.shopping-cart.product-changes.chunk-size:1000}") int chunkSize) {
+        this.shoppingCartPersistenceEntityRepository = shoppingCartPersistenceEntityRepository;
+        this.productChangeRepository = productChangeRepository;
+        this.productNearCache = productNearCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
 
     @Override
     @Transactional
     public void adjustPrice(ProductId productId, Money updatedPrice) {
         shoppingCartPersistenceEntityRepository.updateItemPrice(productId.value(), updatedPrice.value());
         shoppingCartPersistenceEntityRepository.recalculateTotalsForCartsWithProduct(productId.value());
+        productNearCache.invalidate(productId);
     }
 
     @Override
     @Transactional
     public void changeAvailability(ProductId productId, boolean available) {
         shoppingCartPersistenceEntityRepository.updateItemAvailability(productId.value(), available);
+        productNearCache.invalidate(productId);
+    }
+
+    @Override
+    public long adjustPrices(Stream<ProductPriceAdjustment> adjustments, LongConsumer progress) {
+        return inChunks(adjustments, ProductPriceAdjustment::productId, progress, (batchId, chunk) -> {
+            productChangeRepository.saveAll(chunk.stream()
+                    .map(a -> new ShoppingCartProductChangePersistenceEntity(
+                            new ShoppingCartProductChangeId(batchId, a.productId().value()),
+                            a.updatedPrice().value(),
+                            null))
+                    .toList());
+            productChangeRepository.flush();
+
+            shoppingCartPersistenceEntityRepository.updateItemPricesFromBatch(batchId);
+            shoppingCartPersistenceEntityRepository.recalculateTotalsForCartsInBatch(batchId);
+        });
+    }
+
+    @Override
+    public long changeAvailabilities(Stream<ProductAvailabilityChange> changes, LongConsumer progress) {
+        return inChunks(changes, ProductAvailabilityChange::productId, progress, (batchId, chunk) -> {
+            productChangeRepository.saveAll(chunk.stream()
+                    .map(c -> new ShoppingCartProductChangePersistenceEntity(
+                            new ShoppingCartProductChangeId(batchId, c.productId().value()),
+                            null,
+                            c.available()))
+                    .toList());
+            productChangeRepository.flush();
+
+            shoppingCartPersistenceEntityRepository.updateItemAvailabilityFromBatch(batchId);
+        });
+    }
+
+    private <T> long inChunks(Stream<T> changes, Function<T, ProductId> productIdOf, LongConsumer progress,
+                              ChunkApplier<T> applier) {
+        long applied = 0;
+        long chunks = 0;
+
+        // A later change for the same product replaces the earlier one, so each product is staged once per chunk
+        Map<ProductId, T> chunk = new LinkedHashMap<>();
+        Iterator<T> iterator = changes.iterator();
+        while (iterator.hasNext()) {
+            T change = iterator.next();
+            chunk.put(productIdOf.apply(change), change);
+
+            if (chunk.size() >= chunkSize || !iterator.hasNext()) {
+                applyChunk(chunk, applier);
+                applied += chunk.size();
+                chunks++;
+                progress.accept(applied);
+                log.debug("Applied {} product changes to shopping carts in {} chunks", applied, chunks);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+
+        log.info("Applied {} product changes to shopping carts in {} chunks", applied, chunks);
+        return applied;
+    }
+
+    private <T> void applyChunk(Map<ProductId, T> chunk, ChunkApplier<T> applier) {
+        UUID batchId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            applier.apply(batchId, List.copyOf(chunk.values()));
+            productChangeRepository.deleteByBatchId(batchId);
+        });
+        chunk.keySet().forEach(productNearCache::invalidate);
+    }
+
+    @FunctionalInterface
+    private interface ChunkApplier<T> {
+        void apply(UUID batchId, List<T> chunk);
     }
 }
@@ -4,28 +4,27 @@ import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCart;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCarts;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartId;
-import jakarta.persistence.EntityManager;
+import com.algaworks.algashop.ordering.infrastructure.persistence.AggregateVersionUpdater;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Field;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ShoppingCartsPersistenceProvider implements ShoppingCarts {
 
+	private static final AggregateVersionUpdater<ShoppingCart> versionUpdater =
+			AggregateVersionUpdater.of(ShoppingCart.class);
+
 	private final ShoppingCartPersistenceEntityRepository persistenceRepository;
 	private final ShoppingCartPersistenceEntityAssembler assembler;
 	private final ShoppingCartPersistenceEntityDisassembler disassembler;
 
-	private final EntityManager entityManager;
-
 	@Override
 	public Optional<ShoppingCart> ofId(ShoppingCartId shoppingCartId) {
 		return persistenceRepository.findById(shoppingCartId.value())
@@ -49,14 +48,48 @@ public class ShoppingCartsPersistenceProvider implements ShoppingCarts {
 				);
 	}
 
+	@Override
+	@Transactional(readOnly = false)
+	public void addAll(Collection<ShoppingCart> aggregateRoots) {
+		if (aggregateRoots == null || aggregateRoots.isEmpty()) {
+			return;
+		}
+
+		List<UUID> shoppingCartIds = aggregateRoots.stream()
+				.map(shoppingCart -> shoppingCart.id().value())
+				.toList();
+
+		Map<UUID, ShoppingCartPersistenceEntity> existingEntities = persistenceRepository.findAllById(shoppingCartIds)
+				.stream()
+				.collect(Collectors.toMap(ShoppingCartPersistenceEntity::getId, entity -> entity));
+
+		Map<ShoppingCart, ShoppingCartPersistenceEntity> persistenceEntities = new LinkedHashMap<>();
+
+		for (ShoppingCart aggregateRoot : aggregateRoots) {
+			ShoppingCartPersistenceEntity persistenceEntity = existingEntities.get(aggregateRoot.id().value());
+			if (persistenceEntity == null) {
+				persistenceEntity = assembler.fromDomain(aggregateRoot);
+			} else {
+				verifyVersion(aggregateRoot, persistenceEntity);
+				persistenceEntity = assembler.merge(persistenceEntity, aggregateRoot);
+			}
+			persistenceEntities.put(aggregateRoot, persistenceEntity);
+		}
+
+		persistenceRepository.saveAll(persistenceEntities.values());
+		persistenceRepository.flush();
+
+		persistenceEntities.forEach(this::updateVersion);
+	}
+
 	@Override
 	public long count() {
 		return persistenceRepository.count();
 	}
 
 	private void update(ShoppingCart aggregateRoot, ShoppingCartPersistenceEntity persistenceEntity) {
+		verifyVersion(aggregateRoot, persistenceEntity);
 		persistenceEntity = assembler.merge(persistenceEntity, aggregateRoot);
-		entityManager.detach(persistenceEntity);
 		persistenceEntity = persistenceRepository.saveAndFlush(persistenceEntity);
 		updateVersion(aggregateRoot, persistenceEntity);
 	}
@@ -67,12 +100,14 @@ public class ShoppingCartsPersistenceProvider implements ShoppingCarts {
 		updateVersion(aggregateRoot, persistenceEntity);
 	}
 
-	@SneakyThrows
+	private void verifyVersion(ShoppingCart aggregateRoot, ShoppingCartPersistenceEntity persistenceEntity) {
+		if (!Objects.equals(aggregateRoot.version(), persistenceEntity.getVersion())) {
+			throw new ObjectOptimisticLockingFailureException(ShoppingCartPersistenceEntity.class, persistenceEntity.getId());
+		}
+	}
+
 	private void updateVersion(ShoppingCart aggregateRoot, ShoppingCartPersistenceEntity persistenceEntity) {
-		Field version = aggregateRoot.getClass().getDeclaredField("version");
-		version.setAccessible(true);
-		ReflectionUtils.setField(version, aggregateRoot, persistenceEntity.getVersion());
-		version.setAccessible(false);
+		versionUpdater.update(aggregateRoot, persistenceEntity.getVersion());
 	}
 
 	@Override
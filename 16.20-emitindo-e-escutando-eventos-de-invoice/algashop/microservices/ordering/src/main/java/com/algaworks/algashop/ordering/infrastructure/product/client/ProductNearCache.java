@@ -0,0 +1,61 @@
+package com.algaworks.algashop.ordering.infrastructure.product.client;
+
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+ * Local copy of catalog products. Entries are never served older than max-age, and a price or
+ * availability change seen by ordering evicts the product so the next lookup reads the catalog.
+ */
+@Component
+public class ProductNearCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "product-catalog";
+
+    private final Cache<ProductId, Product> products;
+
+    public ProductNearCache(@Value("${algashop.integrations.product-catalog.cache.max-age:PT5M}") Duration maxAge,
+                            @Value("${algashop.integrations.product-catalog.cache.max-size:10000}") long maxSize) {
+        this.products = Caffeine.newBuilder()
+                .expireAfterWrite(maxAge)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Product> get(ProductId productId, Function<ProductId, Optional<Product>> loader) {
+        return Optional.ofNullable(products.get(productId, id -> loader.apply(id).orElse(null)));
+    }
+
+    public Map<ProductId, Product> getAll(Collection<ProductId> productIds,
+                                          Function<Set<? extends ProductId>, Map<ProductId, Product>> loader) {
+        return products.getAll(productIds, loader::apply);
+    }
+
+    public void invalidate(ProductId productId) {
+        products.invalidate(productId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, products, CACHE_NAME);
+        Gauge.builder("algashop.product-catalog.cache.hit-ratio", products, p -> p.stats().hitRate())
+                .description("Share of product lookups answered by the near-cache")
+                .register(meterRegistry);
+    }
+}
@@ -5,19 +5,35 @@ import com.algaworks.algashop.ordering.domain.model.commons.Money;
 import com.algaworks.algashop.ordering.domain.model.product.Product;
 import com.algaworks.algashop.ordering.domain.model.product.ProductName;
 import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
+@ConditionalOnProperty(name = "algashop.integrations.product-catalog.provider", havingValue = "FAKE", matchIfMissing = true)
 public class ProductCatalogServiceFakeImpl implements ProductCatalogService {
     @Override
     public Optional<Product> ofId(ProductId productId) {
-        Product product = Product.builder().id(productId)
+        return Optional.of(fakeProduct(productId));
+    }
+
+    @Override
+    public Map<ProductId, Product> ofIds(Collection<ProductId> productIds) {
+        return productIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), this::fakeProduct));
+    }
+
+    private Product fakeProduct(ProductId productId) {
+        return Product.builder().id(productId)
                 .inStock(true)
                 .name(new ProductName("Notebook"))
                 .price(new Money("3000"))
                 .build();
-        return Optional.of(product);
     }
 }
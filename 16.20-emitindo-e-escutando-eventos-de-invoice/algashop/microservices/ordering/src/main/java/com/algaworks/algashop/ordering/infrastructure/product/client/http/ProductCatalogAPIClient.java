@@ -0,0 +1,13 @@
+package com.algaworks.algashop.ordering.infrastructure.product.client.http;
+
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductCatalogAPIClient {
+
+    @GetExchange("/api/products")
+    List<ProductResponse> getAllById(@RequestParam("ids") List<UUID> ids);
+}
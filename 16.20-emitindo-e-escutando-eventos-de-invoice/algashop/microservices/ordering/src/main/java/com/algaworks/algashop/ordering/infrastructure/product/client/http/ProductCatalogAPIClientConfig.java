@@ -0,0 +1,37 @@
+package com.algaworks.algashop.ordering.infrastructure.product.client.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "algashop.integrations.product-catalog.provider", havingValue = "HTTP")
+public class ProductCatalogAPIClientConfig {
+
+    @Bean
+    public ProductCatalogAPIClient productCatalogAPIClient(
+            RestClient.Builder builder,
+            @Value("${algashop.integrations.product-catalog.url}") String productCatalogUrl,
+            @Value("${algashop.integrations.product-catalog.connect-timeout:PT1S}") Duration connectTimeout,
+            @Value("${algashop.integrations.product-catalog.read-timeout:PT3S}") Duration readTimeout) {
+        RestClient restClient = builder
+                .baseUrl(productCatalogUrl)
+                .requestFactory(ClientHttpRequestFactoryBuilder.httpComponents().build(
+                        ClientHttpRequestFactorySettings.defaults()
+                                .withConnectTimeout(connectTimeout)
+                                .withReadTimeout(readTimeout)))
+                .build();
+        RestClientAdapter adapter = RestClientAdapter.create(restClient);
+        HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builderFor(adapter).build();
+        return proxyFactory.createClient(ProductCatalogAPIClient.class);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.algaworks.algashop.ordering.infrastructure.product.client.http;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductCatalogService;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductName;
+import com.algaworks.algashop.ordering.infrastructure.product.client.ProductNearCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "algashop.integrations.product-catalog.provider", havingValue = "HTTP")
+public class ProductCatalogServiceHttpImpl implements ProductCatalogService {
+
+    private final ProductCatalogAPIClient productCatalogAPIClient;
+    private final ProductNearCache nearCache;
+    private final int batchSize;
+
+    public ProductCatalogServiceHttpImpl(ProductCatalogAPIClient productCatalogAPIClient,
+                                         ProductNearCache nearCache,
+                                         @Value("${algashop.integrations.product-catalog.batch-size:100}") int batchSize) {
+        this.productCatalogAPIClient = productCatalogAPIClient;
+        this.nearCache = nearCache;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Optional<Product> ofId(ProductId productId) {
+        return nearCache.get(productId, id -> Optional.ofNullable(fetch(List.of(id)).get(id)));
+    }
+
+    @Override
+    public Map<ProductId, Product> ofIds(Collection<ProductId> productIds) {
+        return nearCache.getAll(productIds, this::fetch);
+    }
+
+    private Map<ProductId, Product> fetch(Collection<? extends ProductId> productIds) {
+        List<UUID> ids = productIds.stream().map(ProductId::value).distinct().toList();
+        Map<ProductId, Product> products = new HashMap<>(ids.size());
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<UUID> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            for (ProductResponse response : productCatalogAPIClient.getAllById(batch)) {
+                Product product = toProduct(response);
+                products.put(product.id(), product);
+            }
+        }
+
+        return products;
+    }
+
+    private Product toProduct(ProductResponse response) {
+        return Product.builder()
+                .id(new ProductId(response.getId()))
+                .name(new ProductName(response.getName()))
+                .price(new Money(response.getSalePrice()))
+                .inStock(response.getInStock())
+                .build();
+    }
+}
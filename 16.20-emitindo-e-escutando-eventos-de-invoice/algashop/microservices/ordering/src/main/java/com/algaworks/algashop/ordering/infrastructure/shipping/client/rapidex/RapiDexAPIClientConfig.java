@@ -1,23 +1,88 @@
 package com.algaworks.algashop.ordering.infrastructure.shipping.client.rapidex;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
+import java.time.Duration;
+
 @Configuration
 public class RapiDexAPIClientConfig {
 
     @Bean
     public RapiDexAPIClient rapidexApiClient(
             RestClient.Builder builder,
+            CloseableHttpClient rapiDexHttpClient,
             @Value("${algashop.integrations.rapidex.url}") String rapiDexUrl) {
-        RestClient restClient = builder.baseUrl(rapiDexUrl).build();
+        RestClient restClient = builder
+                .baseUrl(rapiDexUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(rapiDexHttpClient))
+                .build();
         RestClientAdapter adapter = RestClientAdapter.create(restClient);
         HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builderFor(adapter).build();
         return proxyFactory.createClient(RapiDexAPIClient.class);
     }
 
+    @Bean
+    public CloseableHttpClient rapiDexHttpClient(
+            @Value("${algashop.integrations.rapidex.connect-timeout:PT1S}") Duration connectTimeout,
+            @Value("${algashop.integrations.rapidex.read-timeout:PT3S}") Duration readTimeout,
+            @Value("${algashop.integrations.rapidex.max-connections:50}") int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public Bulkhead rapiDexBulkhead(
+            @Value("${algashop.integrations.rapidex.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${algashop.integrations.rapidex.bulkhead.max-wait:PT0S}") Duration maxWait) {
+        return Bulkhead.of("rapidex", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+    }
+
+    @Bean
+    public CircuitBreaker rapiDexCircuitBreaker(
+            @Value("${algashop.integrations.rapidex.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${algashop.integrations.rapidex.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${algashop.integrations.rapidex.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${algashop.integrations.rapidex.circuit-breaker.wait-in-open-state:PT30S}") Duration waitInOpenState) {
+        return CircuitBreaker.of("rapidex", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitInOpenState)
+                .build());
+    }
+
 }
@@ -0,0 +1,105 @@
+package com.algaworks.algashop.ordering.infrastructure.shipping.client.rapidex;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/*
+ * The caller that misses loads the quote on its own thread; concurrent callers for the same
+ * pair wait on the same future instead of issuing their own request. Failed loads are not cached.
+ * Successful quotes are also kept for a longer period as the last known quote used as fallback.
+ */
+@Component
+public class RapiDexQuoteCache {
+
+    private final AsyncCache<QuoteKey, DeliveryCostResponse> quotes;
+    private final Cache<QuoteKey, DeliveryCostResponse> lastKnownQuotes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Timer loadTimer;
+
+    public RapiDexQuoteCache(MeterRegistry meterRegistry,
+                             @Value("${algashop.integrations.rapidex.quote-cache.ttl:PT2H}") Duration ttl,
+                             @Value("${algashop.integrations.rapidex.quote-cache.max-size:10000}") long maxSize,
+                             @Value("${algashop.integrations.rapidex.quote-cache.last-known-ttl:P1D}") Duration lastKnownTtl) {
+        this.quotes = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .buildAsync();
+        this.lastKnownQuotes = Caffeine.newBuilder()
+                .expireAfterWrite(lastKnownTtl)
+                .maximumSize(maxSize)
+                .build();
+
+        this.hits = cacheRequests(meterRegistry, "hit");
+        this.misses = cacheRequests(meterRegistry, "miss");
+        this.coalesced = cacheRequests(meterRegistry, "coalesced");
+        this.loadTimer = Timer.builder("algashop.rapidex.quote.load")
+                .description("RapiDex delivery cost requests issued on cache misses")
+                .register(meterRegistry);
+        Gauge.builder("algashop.rapidex.quote.cache.size", quotes, q -> q.synchronous().estimatedSize())
+                .register(meterRegistry);
+    }
+
+    public DeliveryCostResponse get(QuoteKey key, Supplier<DeliveryCostResponse> loader) {
+        CompletableFuture<DeliveryCostResponse> loading = new CompletableFuture<>();
+        CompletableFuture<DeliveryCostResponse> existing = quotes.asMap().putIfAbsent(key, loading);
+
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return join(existing);
+        }
+
+        misses.increment();
+        try {
+            DeliveryCostResponse response = loadTimer.record(loader);
+            lastKnownQuotes.put(key, response);
+            loading.complete(response);
+        } catch (Throwable e) {
+            loading.completeExceptionally(e);
+            quotes.asMap().remove(key, loading);
+        }
+        return join(loading);
+    }
+
+    public Optional<DeliveryCostResponse> lastKnown(QuoteKey key) {
+        return Optional.ofNullable(lastKnownQuotes.getIfPresent(key));
+    }
+
+    private DeliveryCostResponse join(CompletableFuture<DeliveryCostResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter cacheRequests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("algashop.rapidex.quote.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record QuoteKey(String originZipCode, String destinationZipCode) {
+    }
+}
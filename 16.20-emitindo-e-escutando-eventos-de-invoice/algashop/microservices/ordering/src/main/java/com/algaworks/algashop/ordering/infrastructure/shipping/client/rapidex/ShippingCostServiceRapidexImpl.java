@@ -2,27 +2,56 @@ package com.algaworks.algashop.ordering.infrastructure.shipping.client.rapidex;
 
 import com.algaworks.algashop.ordering.domain.model.order.shipping.ShippingCostService;
 import com.algaworks.algashop.ordering.domain.model.commons.Money;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 
 import java.time.LocalDate;
+import java.util.function.Supplier;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "algashop.integrations.shipping.provider", havingValue = "RAPIDEX")
 public class ShippingCostServiceRapidexImpl implements ShippingCostService {
 
     private final RapiDexAPIClient rapiDexAPIClient;
+    private final RapiDexQuoteCache quoteCache;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final DeliveryCostResponse flatRateQuote;
+
+    public ShippingCostServiceRapidexImpl(RapiDexAPIClient rapiDexAPIClient,
+                                          RapiDexQuoteCache quoteCache,
+                                          Bulkhead rapiDexBulkhead,
+                                          CircuitBreaker rapiDexCircuitBreaker,
+                                          @Value("${algashop.integrations.rapidex.fallback.flat-rate:20.00}") String flatRate,
+                                          @Value("${algashop.integrations.rapidex.fallback.estimated-days:10}") Long flatRateEstimatedDays) {
+        this.rapiDexAPIClient = rapiDexAPIClient;
+        this.quoteCache = quoteCache;
+        this.bulkhead = rapiDexBulkhead;
+        this.circuitBreaker = rapiDexCircuitBreaker;
+        this.flatRateQuote = new DeliveryCostResponse(flatRate, flatRateEstimatedDays);
+    }
 
     @Override
     public CalculationResult calculate(CalculationRequest request) {
-        DeliveryCostResponse response = rapiDexAPIClient.calculate(
-                new DeliveryCostRequest(
-                        request.origin().value(),
-                        request.destination().value()
-                )
-        );
+        String origin = request.origin().value();
+        String destination = request.destination().value();
+        RapiDexQuoteCache.QuoteKey key = new RapiDexQuoteCache.QuoteKey(origin, destination);
+
+        DeliveryCostResponse response;
+        try {
+            response = quoteCache.get(key, () -> requestQuote(origin, destination));
+        } catch (CallNotPermittedException | BulkheadFullException | RestClientException e) {
+            log.warn("RapiDex quote unavailable for {} -> {}, using fallback: {}", origin, destination, e.getMessage());
+            response = quoteCache.lastKnown(key).orElse(flatRateQuote);
+        }
 
         LocalDate expectedDeliveryDate = LocalDate.now().plusDays(response.getEstimatedDaysToDeliver());
 
@@ -31,4 +60,9 @@ public class ShippingCostServiceRapidexImpl implements ShippingCostService {
                 .expectedDate(expectedDeliveryDate)
                 .build();
     }
+
+    private DeliveryCostResponse requestQuote(String origin, String destination) {
+        Supplier<DeliveryCostResponse> call = () -> rapiDexAPIClient.calculate(new DeliveryCostRequest(origin, destination));
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+    }
 }
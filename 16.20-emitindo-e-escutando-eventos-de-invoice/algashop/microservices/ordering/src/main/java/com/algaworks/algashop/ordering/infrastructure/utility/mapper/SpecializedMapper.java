@@ -0,0 +1,231 @@
+package com.algaworks.algashop.ordering.infrastructure.utility.mapper;
+
+import com.algaworks.algashop.ordering.application.commons.AddressData;
+import com.algaworks.algashop.ordering.application.customer.query.CustomerOutput;
+import com.algaworks.algashop.ordering.application.order.query.*;
+import com.algaworks.algashop.ordering.application.shoppingcart.query.ShoppingCartItemOutput;
+import com.algaworks.algashop.ordering.application.shoppingcart.query.ShoppingCartOutput;
+import com.algaworks.algashop.ordering.application.utility.Mapper;
+import com.algaworks.algashop.ordering.domain.model.commons.Address;
+import com.algaworks.algashop.ordering.domain.model.customer.Customer;
+import com.algaworks.algashop.ordering.infrastructure.persistence.commons.AddressEmbeddable;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.*;
+import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartItemPersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntity;
+import io.hypersistence.tsid.TSID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+ * Hand-written conversions for the outputs the ModelMapper configuration supports. Each one is
+ * looked up by source and destination type and then only calls getters and builders. Proxied
+ * sources are matched through their superclass.
+ */
+@Component
+@ConditionalOnProperty(name = "algashop.mapper.implementation", havingValue = "SPECIALIZED", matchIfMissing = true)
+public class SpecializedMapper implements Mapper {
+
+    private final Map<Class<?>, Map<Class<?>, Function<Object, ?>>> conversions = new HashMap<>();
+
+    public SpecializedMapper() {
+        register(OrderPersistenceEntity.class, OrderDetailOutput.class, this::toOrderDetailOutput);
+        register(ShoppingCartPersistenceEntity.class, ShoppingCartOutput.class, this::toShoppingCartOutput);
+        register(Customer.class, CustomerOutput.class, this::toCustomerOutput);
+    }
+
+    @Override
+    public <T> T convert(Object object, Class<T> destinationType) {
+        if (object == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        return destinationType.cast(conversionFor(object.getClass(), destinationType).apply(object));
+    }
+
+    private <S, D> void register(Class<S> sourceType, Class<D> destinationType, Function<S, D> conversion) {
+        conversions.computeIfAbsent(sourceType, type -> new HashMap<>())
+                .put(destinationType, source -> conversion.apply(sourceType.cast(source)));
+    }
+
+    private Function<Object, ?> conversionFor(Class<?> sourceType, Class<?> destinationType) {
+        for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+            Map<Class<?>, Function<Object, ?>> byDestination = conversions.get(type);
+            if (byDestination != null && byDestination.containsKey(destinationType)) {
+                return byDestination.get(destinationType);
+            }
+        }
+        throw new IllegalArgumentException("No mapping from " + sourceType.getName() + " to " + destinationType.getName());
+    }
+
+    private OrderDetailOutput toOrderDetailOutput(OrderPersistenceEntity order) {
+        return OrderDetailOutput.builder()
+                .id(toTSIDString(order.getId()))
+                .customer(toCustomerMinimalOutput(order.getCustomer()))
+                .totalItems(order.getTotalItems())
+                .totalAmount(order.getTotalAmount())
+                .placedAt(order.getPlacedAt())
+                .paidAt(order.getPaidAt())
+                .canceledAt(order.getCanceledAt())
+                .readyAt(order.getReadyAt())
+                .status(order.getStatus())
+                .paymentMethod(order.getPaymentMethod())
+                .shipping(toShippingData(order.getShipping()))
+                .billing(toBillingData(order.getBilling()))
+                .items(toList(order.getItems(), this::toOrderItemDetailOutput))
+                .build();
+    }
+
+    private OrderItemDetailOutput toOrderItemDetailOutput(OrderItemPersistenceEntity item) {
+        return OrderItemDetailOutput.builder()
+                .id(toTSIDString(item.getId()))
+                .orderId(toTSIDString(item.getOrderId()))
+                .productId(item.getProductId())
+                .productName(item.getProductName())
+                .price(item.getPrice())
+                .quantity(item.getQuantity())
+                .totalAmount(item.getTotalAmount())
+                .build();
+    }
+
+    private CustomerMinimalOutput toCustomerMinimalOutput(CustomerPersistenceEntity customer) {
+        if (customer == null) {
+            return null;
+        }
+        return CustomerMinimalOutput.builder()
+                .id(customer.getId())
+                .firstName(customer.getFirstName())
+                .lastName(customer.getLastName())
+                .email(customer.getEmail())
+                .document(customer.getDocument())
+                .phone(customer.getPhone())
+                .build();
+    }
+
+    private ShippingData toShippingData(ShippingEmbeddable shipping) {
+        if (shipping == null) {
+            return null;
+        }
+        return ShippingData.builder()
+                .cost(shipping.getCost())
+                .expectedDate(shipping.getExpectedDate())
+                .recipient(toRecipientData(shipping.getRecipient()))
+                .address(toAddressData(shipping.getAddress()))
+                .build();
+    }
+
+    private RecipientData toRecipientData(RecipientEmbeddable recipient) {
+        if (recipient == null) {
+            return null;
+        }
+        return RecipientData.builder()
+                .firstName(recipient.getFirstName())
+                .lastName(recipient.getLastName())
+                .document(recipient.getDocument())
+                .phone(recipient.getPhone())
+                .build();
+    }
+
+    private BillingData toBillingData(BillingEmbeddable billing) {
+        if (billing == null) {
+            return null;
+        }
+        return BillingData.builder()
+                .firstName(billing.getFirstName())
+                .lastName(billing.getLastName())
+                .document(billing.getDocument())
+                .phone(billing.getPhone())
+                .address(toAddressData(billing.getAddress()))
+                .build();
+    }
+
+    private AddressData toAddressData(AddressEmbeddable address) {
+        if (address == null) {
+            return null;
+        }
+        return AddressData.builder()
+                .street(address.getStreet())
+                .number(address.getNumber())
+                .complement(address.getComplement())
+                .neighborhood(address.getNeighborhood())
+                .city(address.getCity())
+                .state(address.getState())
+                .zipCode(address.getZipCode())
+                .build();
+    }
+
+    private ShoppingCartOutput toShoppingCartOutput(ShoppingCartPersistenceEntity shoppingCart) {
+        ShoppingCartOutput output = new ShoppingCartOutput();
+        output.setId(shoppingCart.getId());
+        output.setCustomerId(shoppingCart.getCustomerId());
+        output.setTotalItems(shoppingCart.getTotalItems());
+        output.setTotalAmount(shoppingCart.getTotalAmount());
+        output.setItems(toList(shoppingCart.getItems(), this::toShoppingCartItemOutput));
+        return output;
+    }
+
+    private ShoppingCartItemOutput toShoppingCartItemOutput(ShoppingCartItemPersistenceEntity item) {
+        return ShoppingCartItemOutput.builder()
+                .productId(item.getProductId())
+                .name(item.getName())
+                .price(item.getPrice())
+                .quantity(item.getQuantity())
+                .totalAmount(item.getTotalAmount())
+                .available(item.getAvailable())
+                .build();
+    }
+
+    private CustomerOutput toCustomerOutput(Customer customer) {
+        return CustomerOutput.builder()
+                .id(customer.id().value())
+                .firstName(customer.fullName() == null ? null : customer.fullName().firstName())
+                .lastName(customer.fullName() == null ? null : customer.fullName().lastName())
+                .email(customer.email() == null ? null : customer.email().value())
+                .document(customer.document() == null ? null : customer.document().value())
+                .phone(customer.phone() == null ? null : customer.phone().value())
+                .birthDate(customer.birthDate() == null ? null : customer.birthDate().value())
+                .loyaltyPoints(customer.loyaltyPoints() == null ? null : customer.loyaltyPoints().value())
+                .registeredAt(customer.registeredAt())
+                .archivedAt(customer.archivedAt())
+                .promotionNotificationsAllowed(customer.isPromotionNotificationsAllowed())
+                .archived(customer.isArchived())
+                .address(toAddressData(customer.address()))
+                .build();
+    }
+
+    private AddressData toAddressData(Address address) {
+        if (address == null) {
+            return null;
+        }
+        return AddressData.builder()
+                .street(address.street())
+                .number(address.number())
+                .complement(address.complement())
+                .neighborhood(address.neighborhood())
+                .city(address.city())
+                .state(address.state())
+                .zipCode(address.zipCode() == null ? null : address.zipCode().value())
+                .build();
+    }
+
+    private static <S, D> List<D> toList(Collection<S> sources, Function<S, D> conversion) {
+        if (sources == null) {
+            return new ArrayList<>();
+        }
+        List<D> destinations = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            destinations.add(conversion.apply(source));
+        }
+        return destinations;
+    }
+
+    private static String toTSIDString(Long tsid) {
+        return tsid == null ? null : new TSID(tsid).toString();
+    }
+}
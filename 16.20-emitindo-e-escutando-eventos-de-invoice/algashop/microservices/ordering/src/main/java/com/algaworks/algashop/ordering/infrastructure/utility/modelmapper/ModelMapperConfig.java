@@ -14,6 +14,7 @@ import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.modelmapper.convention.NamingConventions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -59,6 +60,7 @@ public class ModelMapperConfig {
             };
 
     @Bean
+    @ConditionalOnProperty(name = "algashop.mapper.implementation", havingValue = "MODEL_MAPPER")
     public Mapper mapper() {
         ModelMapper modelMapper = new ModelMapper();
         configuration(modelMapper);
@@ -0,0 +1,24 @@
+package com.algaworks.algashop.ordering.infrastructure.utility.virtualthread;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ThreadFactory;
+
+/*
+ * Threads for the application's own executors follow spring.threads.virtual.enabled, like the
+ * executors Spring Boot configures.
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+    }
+
+    public static ThreadFactory named(Environment environment, String prefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(prefix, 0).factory();
+        }
+        return Thread.ofPlatform().name(prefix, 0).daemon().factory();
+    }
+
+}
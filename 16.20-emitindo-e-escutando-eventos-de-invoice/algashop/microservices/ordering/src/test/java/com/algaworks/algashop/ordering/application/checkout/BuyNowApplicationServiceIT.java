@@ -8,6 +8,7 @@ import com.algaworks.algashop.ordering.domain.model.order.Orders;
 import com.algaworks.algashop.ordering.domain.model.order.shipping.ShippingCostService;
 import com.algaworks.algashop.ordering.domain.model.product.Product;
 import com.algaworks.algashop.ordering.domain.model.product.ProductCatalogService;
+import com.algaworks.algashop.ordering.domain.model.product.ProductNotFoundException;
 import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,4 +67,20 @@ class BuyNowApplicationServiceIT {
         Assertions.assertThat(orders.exists(new OrderId(orderId))).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldPropagateProductNotFoundFromConcurrentLookup() {
+        Mockito.when(productCatalogService.ofId(Mockito.any())).thenReturn(Optional.empty());
+
+        Mockito.when(shippingCostService.calculate(Mockito.any(ShippingCostService.CalculationRequest.class)))
+                .thenReturn(new ShippingCostService.CalculationResult(
+                        new Money("10.00"),
+                        LocalDate.now().plusDays(3)
+                ));
+
+        BuyNowInput input = BuyNowInputTestDataBuilder.aBuyNowInput().build();
+
+        Assertions.assertThatExceptionOfType(ProductNotFoundException.class)
+                .isThrownBy(() -> buyNowApplicationService.buyNow(input));
+    }
+
+}
@@ -9,23 +9,32 @@ import com.algaworks.algashop.ordering.domain.model.order.shipping.OriginAddress
 import com.algaworks.algashop.ordering.domain.model.order.shipping.ShippingCostService;
 import com.algaworks.algashop.ordering.domain.model.product.Product;
 import com.algaworks.algashop.ordering.domain.model.product.ProductCatalogService;
+import com.algaworks.algashop.ordering.domain.model.product.ProductNotFoundException;
 import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.*;
 import com.algaworks.algashop.ordering.infrastructure.listener.order.OrderEventListener;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @SpringBootTest
 @Transactional
@@ -37,12 +46,15 @@ class CheckoutApplicationServiceIT {
     @Autowired
     private Orders orders;
 
-    @Autowired
+    @MockitoSpyBean
     private ShoppingCarts shoppingCarts;
 
-    @Autowired
+    @MockitoSpyBean
     private Customers customers;
 
+    @Autowired
+    private CustomerPersistenceEntityRepository customerRepository;
+
     @Autowired
     private CheckoutService checkoutService;
 
@@ -52,6 +64,9 @@ class CheckoutApplicationServiceIT {
     @MockitoBean
     private ShippingCostService shippingCostService;
 
+    @MockitoBean
+    private ProductCatalogService productCatalogService;
+
     @MockitoSpyBean
     private OrderEventListener orderEventListener;
 
@@ -62,12 +77,23 @@ class CheckoutApplicationServiceIT {
                         new Money("10.00"),
                         LocalDate.now().plusDays(3)
                 ));
+    }
 
+    /*
+     * The customer is looked up concurrently, outside the test transaction, so it must be committed.
+     */
+    @BeforeTransaction
+    public void registerCustomer() {
         if (!customers.exists(CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID)) {
             customers.add(CustomerTestDataBuilder.existingCustomer().build());
         }
     }
 
+    @AfterTransaction
+    public void removeCustomer() {
+        customerRepository.deleteById(CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID.value());
+    }
+
     @Test
     void shouldCheckout() {
         Product product = ProductTestDataBuilder.aProduct().inStock(true).build();
@@ -76,6 +102,8 @@ class CheckoutApplicationServiceIT {
         shoppingCart.addItem(product, new Quantity(1));
         shoppingCarts.add(shoppingCart);
 
+        Mockito.when(productCatalogService.ofIds(Mockito.anyCollection())).thenReturn(Map.of(product.id(), product));
+
         CheckoutInput input = CheckoutInputTestDataBuilder.aCheckoutInput()
                 .shoppingCartId(shoppingCart.id().value())
                 .build();
@@ -131,6 +159,9 @@ class CheckoutApplicationServiceIT {
         shoppingCart.refreshItem(unavailableProduct);
         shoppingCarts.add(shoppingCart);
 
+        Mockito.when(productCatalogService.ofIds(Mockito.anyCollection()))
+                .thenReturn(Map.of(unavailableProduct.id(), unavailableProduct));
+
         CheckoutInput input = CheckoutInputTestDataBuilder.aCheckoutInput()
                 .shoppingCartId(shoppingCart.id().value())
                 .build();
@@ -138,4 +169,130 @@ class CheckoutApplicationServiceIT {
         Assertions.assertThatExceptionOfType(ShoppingCartCantProceedToCheckoutException.class)
                 .isThrownBy(() -> service.checkout(input));
     }
+
+    @Test
+    void shouldRefreshAvailabilityFromCatalogBeforeCheckout() {
+        Product product = ProductTestDataBuilder.aProduct().inStock(true).build();
+        Product soldOutProduct = ProductTestDataBuilder.aProduct().id(product.id()).inStock(false).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product, new Quantity(1));
+        shoppingCarts.add(shoppingCart);
+
+        Mockito.when(productCatalogService.ofIds(Mockito.anyCollection()))
+                .thenReturn(Map.of(soldOutProduct.id(), soldOutProduct));
+
+        CheckoutInput input = CheckoutInputTestDataBuilder.aCheckoutInput()
+                .shoppingCartId(shoppingCart.id().value())
+                .build();
+
+        Assertions.assertThatExceptionOfType(ShoppingCartCantProceedToCheckoutException.class)
+                .isThrownBy(() -> service.checkout(input));
+    }
+
+    @Test
+    void shouldThrowProductNotFoundExceptionWhenCatalogNoLongerHasAnItem() {
+        Product product = ProductTestDataBuilder.aProduct().inStock(true).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product, new Quantity(1));
+        shoppingCarts.add(shoppingCart);
+
+        Mockito.when(productCatalogService.ofIds(Mockito.anyCollection())).thenReturn(Map.of());
+
+        CheckoutInput input = CheckoutInputTestDataBuilder.aCheckoutInput()
+                .shoppingCartId(shoppingCart.id().value())
+                .build();
+
+        Assertions.assertThatExceptionOfType(ProductNotFoundException.class)
+                .isThrownBy(() -> service.checkout(input));
+        Assertions.assertThat(shoppingCarts.ofId(shoppingCart.id()).orElseThrow().isEmpty()).isFalse();
+    }
+
+    @Test
+    void shouldThrowOptimisticLockingFailureWhenCartChangesWhileQuoting() {
+        Product product = ProductTestDataBuilder.aProduct().inStock(true).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product, new Quantity(1));
+        shoppingCarts.add(shoppingCart);
+
+        Mockito.when(productCatalogService.ofIds(Mockito.anyCollection())).thenReturn(Map.of(product.id(), product));
+
+        AtomicBoolean changed = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            Object quotedCart = invocation.callRealMethod();
+            if (changed.compareAndSet(false, true)) {
+                ShoppingCart concurrentlyChangedCart = shoppingCarts.ofId(shoppingCart.id()).orElseThrow();
+                concurrentlyChangedCart.addItem(ProductTestDataBuilder.aProductAltRamMemory().build(), new Quantity(1));
+                shoppingCarts.add(concurrentlyChangedCart);
+            }
+            return quotedCart;
+        }).when(shoppingCarts).ofId(shoppingCart.id());
+
+        CheckoutInput input = CheckoutInputTestDataBuilder.aCheckoutInput()
+                .shoppingCartId(shoppingCart.id().value())
+                .build();
+
+        Assertions.assertThatExceptionOfType(OptimisticLockingFailureException.class)
+                .isThrownBy(() -> service.checkout(input));
+    }
+
+    @Test
+    void shouldRepriceAllItemsWithOneCatalogCall() {
+        Product product = ProductTestDataBuilder.aProduct().inStock(true).build();
+        Product altProduct = ProductTestDataBuilder.aProductAltRamMemory().inStock(true).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product, new Quantity(1));
+        shoppingCart.addItem(altProduct, new Quantity(2));
+        shoppingCarts.add(shoppingCart);
+
+        Product repricedProduct = ProductTestDataBuilder.aProduct().id(product.id()).price(new Money("100.00")).build();
+        Product repricedAltProduct = ProductTestDataBuilder.aProductAltRamMemory().id(altProduct.id()).price(new Money("50.00")).build();
+        Mockito.when(productCatalogService.ofIds(Mockito.anyCollection())).thenReturn(Map.of(
+                repricedProduct.id(), repricedProduct,
+                repricedAltProduct.id(), repricedAltProduct
+        ));
+
+        CheckoutInput input = CheckoutInputTestDataBuilder.aCheckoutInput()
+                .shoppingCartId(shoppingCart.id().value())
+                .build();
+
+        String orderId = service.checkout(input);
+
+        Order createdOrder = orders.ofId(new OrderId(orderId)).orElseThrow();
+        Assertions.assertThat(createdOrder.items())
+                .extracting(OrderItem::totalAmount)
+                .containsExactlyInAnyOrder(new Money("100.00"), new Money("100.00"));
+
+        Mockito.verify(productCatalogService).ofIds(Mockito.argThat(ids ->
+                ids.size() == 2 && ids.containsAll(List.of(product.id(), altProduct.id()))));
+        Mockito.verify(productCatalogService, Mockito.never()).ofId(Mockito.any());
+    }
+
+    @Test
+    void shouldLookUpCustomerAlongsideTheOtherLookups() {
+        Product product = ProductTestDataBuilder.aProduct().inStock(true).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product, new Quantity(1));
+        shoppingCarts.add(shoppingCart);
+
+        Mockito.when(productCatalogService.ofIds(Mockito.anyCollection())).thenReturn(Map.of(product.id(), product));
+
+        AtomicReference<Thread> lookupThread = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread());
+            return invocation.callRealMethod();
+        }).when(customers).ofId(CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID);
+
+        CheckoutInput input = CheckoutInputTestDataBuilder.aCheckoutInput()
+                .shoppingCartId(shoppingCart.id().value())
+                .build();
+
+        service.checkout(input);
+
+        Assertions.assertThat(lookupThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+    }
 }
@@ -11,11 +11,14 @@ import com.algaworks.algashop.ordering.infrastructure.listener.customer.Customer
 import io.hypersistence.tsid.TSID;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @SpringBootTest
@@ -28,7 +31,7 @@ class CustomerLoyaltyPointsApplicationServiceIT {
     @Autowired
     private Customers customers;
 
-    @Autowired
+    @MockitoSpyBean
     private Orders orders;
 
     @MockitoBean
@@ -167,4 +170,69 @@ class CustomerLoyaltyPointsApplicationServiceIT {
         Assertions.assertThat(updatedCustomer).isNotNull();
         Assertions.assertThat(updatedCustomer.loyaltyPoints()).isEqualTo(LoyaltyPoints.ZERO);
     }
+
+    @Test
+    void shouldAddLoyaltyPointsOfAllOrdersOnce() {
+        Customer customer = CustomerTestDataBuilder.brandNewCustomer().build();
+        customers.add(customer);
+
+        Order order = aReadyOrder(customer, new Money("2500"));
+        Order otherOrder = aReadyOrder(customer, new Money("3000"));
+
+        loyaltyPointsService.addLoyaltyPoints(customer.id().value(),
+                List.of(order.id().toString(), otherOrder.id().toString()));
+
+        Customer updatedCustomer = customers.ofId(customer.id()).orElseThrow();
+        Assertions.assertThat(updatedCustomer.loyaltyPoints()).isEqualTo(new LoyaltyPoints(25));
+        Assertions.assertThat(updatedCustomer.version()).isEqualTo(customer.version() + 1);
+    }
+
+    @Test
+    void shouldLoadAllPendingOrdersInOneQuery() {
+        Customer customer = CustomerTestDataBuilder.brandNewCustomer().build();
+        customers.add(customer);
+
+        Order order = aReadyOrder(customer, new Money("2500"));
+        Order otherOrder = aReadyOrder(customer, new Money("3000"));
+
+        loyaltyPointsService.addLoyaltyPoints(customer.id().value(),
+                List.of(order.id().toString(), otherOrder.id().toString()));
+
+        Mockito.verify(orders).ofIds(List.of(order.id(), otherOrder.id()));
+        Mockito.verify(orders, Mockito.never()).ofId(Mockito.any());
+    }
+
+    @Test
+    void shouldNotCreditTheSameOrderTwice() {
+        Customer customer = CustomerTestDataBuilder.brandNewCustomer().build();
+        customers.add(customer);
+
+        Order order = aReadyOrder(customer, new Money("2500"));
+        Order otherOrder = aReadyOrder(customer, new Money("3000"));
+
+        loyaltyPointsService.addLoyaltyPoints(customer.id().value(), order.id().toString());
+        loyaltyPointsService.addLoyaltyPoints(customer.id().value(), order.id().toString());
+        loyaltyPointsService.addLoyaltyPoints(customer.id().value(),
+                List.of(order.id().toString(), otherOrder.id().toString()));
+
+        Customer updatedCustomer = customers.ofId(customer.id()).orElseThrow();
+        Assertions.assertThat(updatedCustomer.loyaltyPoints()).isEqualTo(new LoyaltyPoints(25));
+    }
+
+    private Order aReadyOrder(Customer customer, Money price) {
+        Order order = OrderTestDataBuilder.anOrder()
+                .customerId(customer.id())
+                .status(OrderStatus.DRAFT)
+                .withItems(false)
+                .build();
+        Product product = ProductTestDataBuilder.aProduct().price(price).build();
+
+        order.addItem(product, new Quantity(1));
+        order.place();
+        order.markAsPaid();
+        order.markAsReady();
+
+        orders.add(order);
+        return order;
+    }
 }
@@ -8,12 +8,14 @@ import com.algaworks.algashop.ordering.domain.model.customer.CustomerArchivedExc
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerNotFoundException;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerRegisteredEvent;
 import com.algaworks.algashop.ordering.infrastructure.listener.customer.CustomerEventListener;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -35,6 +37,9 @@ class CustomerManagementApplicationServiceIT {
     @Autowired
     private CustomerQueryService queryService;
 
+    @Autowired
+    private CustomerPersistenceEntityRepository customerRepository;
+
     @Test
     public void shouldRegister() {
         CustomerInput input = CustomerInputTestDataBuilder.aCustomer().build();
@@ -66,9 +71,23 @@ class CustomerManagementApplicationServiceIT {
 
         Mockito.verify(customerEventListener, Mockito.never())
                 .listen(Mockito.any(CustomerArchivedEvent.class));
+    }
 
-        Mockito.verify(customerNotificationApplicationService)
-                .notifyNewRegistration(Mockito.any(CustomerNotificationApplicationService.NotifyNewRegistrationInput.class));
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shouldNotifyNewRegistrationOnceCommitted() {
+        CustomerInput input = CustomerInputTestDataBuilder.aCustomer()
+                .email(UUID.randomUUID() + "@email.com")
+                .build();
+
+        UUID customerId = customerManagementApplicationService.create(input);
+        try {
+            Mockito.verify(customerNotificationApplicationService, Mockito.timeout(5000))
+                    .notifyNewRegistration(Mockito.argThat(notification ->
+                            notification.customerId().equals(customerId)));
+        } finally {
+            customerRepository.deleteById(customerId);
+        }
     }
 
     @Test
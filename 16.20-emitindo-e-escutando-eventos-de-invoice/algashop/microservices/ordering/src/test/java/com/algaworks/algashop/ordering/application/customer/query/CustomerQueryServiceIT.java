@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -151,4 +152,35 @@ class CustomerQueryServiceIT {
         Assertions.assertThat(page.isEmpty()).isTrue();
         Assertions.assertThat(page.getTotalElements()).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFilterSliceWithoutCounting() {
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(new CustomerId()).fullName(new FullName("Ana", "Silva")).build());
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(new CustomerId()).fullName(new FullName("Bruno", "Costa")).build());
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(new CustomerId()).fullName(new FullName("Carla", "Souza")).build());
+
+        Slice<CustomerSummaryOutput> firstSlice = queryService.filterSlice(new CustomerFilter(2, 0));
+        Slice<CustomerSummaryOutput> lastSlice = queryService.filterSlice(new CustomerFilter(2, 1));
+
+        Assertions.assertThat(firstSlice.getNumberOfElements()).isEqualTo(2);
+        Assertions.assertThat(firstSlice.hasNext()).isTrue();
+        Assertions.assertThat(lastSlice.getNumberOfElements()).isEqualTo(1);
+        Assertions.assertThat(lastSlice.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldEstimateTotalPerFilterShape() {
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(new CustomerId()).fullName(new FullName("Estimada", "Silva")).build());
+
+        CustomerFilter filter = new CustomerFilter();
+        filter.setFirstName("estimada");
+
+        Assertions.assertThat(queryService.estimateTotal(filter)).isEqualTo(1L);
+
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(new CustomerId()).fullName(new FullName("Estimada", "Costa")).build());
+
+        Assertions.assertThat(queryService.estimateTotal(filter)).isEqualTo(1L);
+        Assertions.assertThat(queryService.filter(filter).getTotalElements()).isEqualTo(2L);
+    }
+
+}
@@ -1,11 +1,19 @@
 package com.algaworks.algashop.ordering.application.order.management;
 
 import com.algaworks.algashop.ordering.application.customer.loyaltypoints.CustomerLoyaltyPointsApplicationService;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.model.customer.Customers;
 import com.algaworks.algashop.ordering.domain.model.order.*;
 import com.algaworks.algashop.ordering.infrastructure.listener.order.OrderEventListener;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.LoyaltyPointsCreditPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.CustomerSalesStatsPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.CustomerSalesStatsProjector;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryPersistenceEntityRepository;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -13,10 +21,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Year;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @SpringBootTest
 @Transactional
@@ -38,6 +50,24 @@ class OrderManagementApplicationServiceIT {
     @MockitoSpyBean
     private CustomerLoyaltyPointsApplicationService loyaltyPointsApplicationService;
 
+    @MockitoSpyBean
+    private CustomerSalesStatsProjector customerSalesStatsProjector;
+
+    @Autowired
+    private CustomerSalesStatsPersistenceEntityRepository statsRepository;
+
+    @Autowired
+    private OrderSummaryPersistenceEntityRepository summaryRepository;
+
+    @Autowired
+    private OrderPersistenceEntityRepository orderRepository;
+
+    @Autowired
+    private CustomerPersistenceEntityRepository customerRepository;
+
+    @Autowired
+    private LoyaltyPointsCreditPersistenceEntityRepository loyaltyPointsCreditRepository;
+
     @BeforeEach
     public void setup() {
         if (!customers.exists(CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID)) {
@@ -92,6 +122,30 @@ class OrderManagementApplicationServiceIT {
         Mockito.verify(orderEventListener).listen(Mockito.any(OrderPaidEvent.class));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldProjectSalesStatsOnceOrderPaymentIsCommitted() {
+        CustomerId customerId = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId).build());
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customerId).build();
+        orders.add(order);
+
+        try {
+            service.markAsPaid(order.id().toString());
+
+            Mockito.verify(customerSalesStatsProjector, Mockito.timeout(5000)).orderPaid(order.id());
+            Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(1L));
+        } finally {
+            statsRepository.deleteAll(statsRepository.findAll().stream()
+                    .filter(stats -> stats.getId().getCustomerId().equals(customerId.value()))
+                    .toList());
+            summaryRepository.deleteById(order.id().value().toLong());
+            orderRepository.deleteById(order.id().value().toLong());
+            customerRepository.deleteAllById(List.of(customerId.value(), CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID.value()));
+        }
+    }
+
     @Test
     void shouldThrowOrderNotFoundExceptionWhenMarkingNonExistingOrderAsPaid() {
         String nonExistingOrderId = new OrderId().toString();
@@ -131,10 +185,31 @@ class OrderManagementApplicationServiceIT {
         Assertions.assertThat(updatedOrder.get().readyAt()).isNotNull();
 
         Mockito.verify(orderEventListener).listen(Mockito.any(OrderReadyEvent.class));
-        Mockito.verify(loyaltyPointsApplicationService).addLoyaltyPoints(
-                Mockito.any(UUID.class),
-                Mockito.any(String.class)
-        );
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldAddLoyaltyPointsOnceOrderReadinessIsCommitted() {
+        CustomerId customerId = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId).build());
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
+        orders.add(order);
+
+        try {
+            service.markAsReady(order.id().toString());
+
+            Mockito.verify(loyaltyPointsApplicationService, Mockito.timeout(5000)).addLoyaltyPoints(
+                    Mockito.eq(customerId.value()),
+                    Mockito.<Collection<String>>argThat(orderIds -> orderIds.contains(order.id().toString()))
+            );
+        } finally {
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() ->
+                    !loyaltyPointsCreditRepository.findCreditedOrderIds(List.of(order.id().value().toLong())).isEmpty());
+            loyaltyPointsCreditRepository.deleteAllByIdInBatch(List.of(order.id().value().toLong()));
+            summaryRepository.deleteById(order.id().value().toLong());
+            orderRepository.deleteById(order.id().value().toLong());
+            customerRepository.deleteAllById(List.of(customerId.value(), CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID.value()));
+        }
     }
 
     @Test
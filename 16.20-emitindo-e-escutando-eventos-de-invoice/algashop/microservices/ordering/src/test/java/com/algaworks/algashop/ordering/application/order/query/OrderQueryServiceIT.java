@@ -1,6 +1,9 @@
 package com.algaworks.algashop.ordering.application.order.query;
 
+import com.algaworks.algashop.ordering.application.utility.CursorSlice;
 import com.algaworks.algashop.ordering.application.utility.PageFilter;
+import com.algaworks.algashop.ordering.domain.model.commons.Email;
+import com.algaworks.algashop.ordering.domain.model.commons.FullName;
 import com.algaworks.algashop.ordering.domain.model.customer.Customer;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
@@ -9,14 +12,22 @@ import com.algaworks.algashop.ordering.domain.model.order.Order;
 import com.algaworks.algashop.ordering.domain.model.order.OrderStatus;
 import com.algaworks.algashop.ordering.domain.model.order.OrderTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.model.order.Orders;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryProjector;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 @SpringBootTest
 @Transactional
 class OrderQueryServiceIT {
@@ -30,6 +41,12 @@ class OrderQueryServiceIT {
     @Autowired
     private Customers customers;
 
+    @Autowired
+    private OrderSummaryPersistenceEntityRepository summaryRepository;
+
+    @Autowired
+    private OrderSummaryProjector summaryProjector;
+
     @Test
     public void shouldFindById() {
         Customer customer = CustomerTestDataBuilder.existingCustomer().build();
@@ -167,4 +184,165 @@ class OrderQueryServiceIT {
         Assertions.assertThat(page.getContent().getFirst().getStatus()).isEqualTo(OrderStatus.CANCELED.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldScrollThroughAllOrdersWithCursor() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+        customers.add(customer);
+
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.DRAFT).withItems(false).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.READY).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).customerId(customer.id()).build());
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            OrderFilter filter = new OrderFilter(2, 0);
+            filter.setSortDirection(direction);
+
+            List<OrderSummaryOutput> scrolled = new ArrayList<>();
+            List<Integer> sliceSizes = new ArrayList<>();
+            CursorSlice<OrderSummaryOutput> slice;
+            do {
+                slice = queryService.scroll(filter);
+                scrolled.addAll(slice.getContent());
+                sliceSizes.add(slice.getContent().size());
+                filter.setCursor(slice.getNextCursor());
+            } while (slice.hasNext());
+
+            Assertions.assertThat(sliceSizes).containsExactly(2, 2, 1);
+            Assertions.assertThat(scrolled).extracting(OrderSummaryOutput::getId).doesNotHaveDuplicates();
+
+            Comparator<OffsetDateTime> placedAtOrder = direction == Sort.Direction.ASC
+                    ? Comparator.nullsFirst(Comparator.<OffsetDateTime>naturalOrder())
+                    : Comparator.nullsLast(Comparator.<OffsetDateTime>reverseOrder());
+            Assertions.assertThat(scrolled).extracting(OrderSummaryOutput::getPlacedAt).isSortedAccordingTo(placedAtOrder);
+        }
+    }
+
+    @Test
+    public void shouldScrollByStatusWithCursor() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+        customers.add(customer);
+
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customer.id()).build());
+
+        OrderFilter filter = new OrderFilter(1, 0);
+        filter.setSortByProperty(OrderFilter.SortType.STATUS);
+
+        CursorSlice<OrderSummaryOutput> first = queryService.scroll(filter);
+        filter.setCursor(first.getNextCursor());
+        CursorSlice<OrderSummaryOutput> second = queryService.scroll(filter);
+        filter.setCursor(second.getNextCursor());
+        CursorSlice<OrderSummaryOutput> third = queryService.scroll(filter);
+
+        Assertions.assertThat(List.of(first, second, third))
+                .flatExtracting(CursorSlice::getContent)
+                .extracting(OrderSummaryOutput::getStatus)
+                .containsExactly("PAID", "PLACED", "PLACED");
+        Assertions.assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    public void givenCursorFromAnotherSort_whenScroll_shouldFail() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+        customers.add(customer);
+
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customer.id()).build());
+
+        OrderFilter filter = new OrderFilter(1, 0);
+        filter.setCursor(queryService.scroll(filter).getNextCursor());
+        filter.setSortByProperty(OrderFilter.SortType.STATUS);
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> queryService.scroll(filter));
+    }
+
+    @Test
+    public void shouldFilterSliceWithoutCounting() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+        customers.add(customer);
+
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.DRAFT).withItems(false).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.READY).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).customerId(customer.id()).build());
+
+        Slice<OrderSummaryOutput> firstSlice = queryService.filterSlice(new OrderFilter(3, 0));
+        Slice<OrderSummaryOutput> lastSlice = queryService.filterSlice(new OrderFilter(3, 1));
+
+        Assertions.assertThat(firstSlice.getNumberOfElements()).isEqualTo(3);
+        Assertions.assertThat(firstSlice.hasNext()).isTrue();
+        Assertions.assertThat(lastSlice.getNumberOfElements()).isEqualTo(2);
+        Assertions.assertThat(lastSlice.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldEstimateTotalPerFilterShape() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().id(new CustomerId()).build();
+        customers.add(customer);
+
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customer.id()).build());
+
+        OrderFilter filter = new OrderFilter(1, 0);
+        filter.setCustomerId(customer.id().value());
+
+        Assertions.assertThat(queryService.estimateTotal(filter)).isEqualTo(2L);
+
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.READY).customerId(customer.id()).build());
+
+        OrderFilter nextPageFilter = new OrderFilter(1, 1);
+        nextPageFilter.setCustomerId(customer.id().value());
+        nextPageFilter.setSortDirection(Sort.Direction.DESC);
+
+        Assertions.assertThat(queryService.estimateTotal(nextPageFilter)).isEqualTo(2L);
+    }
+
+
+    @Test
+    public void shouldListChangedOrderAndCustomerData() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+        customers.add(customer);
+
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build();
+        orders.add(order);
+
+        order.markAsPaid();
+        orders.add(order);
+
+        customer.changeName(new FullName("Jane", "Roe"));
+        customer.changeEmail(new Email("jane.roe@email.com"));
+        customers.add(customer);
+
+        OrderFilter filter = new OrderFilter();
+        filter.setCustomerId(customer.id().value());
+
+        List<OrderSummaryOutput> content = queryService.filter(filter).getContent();
+
+        Assertions.assertThat(content).hasSize(1);
+        Assertions.assertThat(content.getFirst().getStatus()).isEqualTo(OrderStatus.PAID.name());
+        Assertions.assertThat(content.getFirst().getPaidAt()).isNotNull();
+        Assertions.assertThat(content.getFirst().getCustomer())
+                .extracting(CustomerMinimalOutput::getFirstName, CustomerMinimalOutput::getEmail)
+                .containsExactly("Jane", "jane.roe@email.com");
+    }
+
+    @Test
+    public void shouldBackfillMissingSummaries() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+        customers.add(customer);
+
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customer.id()).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.READY).customerId(customer.id()).build());
+        summaryRepository.deleteAllInBatch();
+
+        Assertions.assertThat(queryService.filter(new OrderFilter(10, 0)).getTotalElements()).isZero();
+
+        Assertions.assertThat(summaryProjector.backfill()).isEqualTo(2);
+        Assertions.assertThat(summaryProjector.backfill()).isZero();
+        Assertions.assertThat(queryService.filter(new OrderFilter(10, 0)).getTotalElements()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,90 @@
+package com.algaworks.algashop.ordering.application.utility;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+class LookupScopeTest {
+
+    private final LookupExecutor lookupExecutor = new LookupExecutor(Executors.newFixedThreadPool(4));
+
+    @AfterEach
+    void tearDown() {
+        lookupExecutor.close();
+    }
+
+    @Test
+    void shouldRunLookupsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (LookupScope lookups = lookupExecutor.open()) {
+            Supplier<String> first = lookups.fork(() -> awaitOther(bothStarted, "first"));
+            Supplier<String> second = lookups.fork(() -> awaitOther(bothStarted, "second"));
+
+            Assertions.assertThat(first.get()).isEqualTo("first");
+            Assertions.assertThat(second.get()).isEqualTo("second");
+        }
+    }
+
+    @Test
+    void shouldRethrowFailureAndCancelSiblings() throws InterruptedException {
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+        try (LookupScope lookups = lookupExecutor.open()) {
+            Supplier<String> slow = lookups.fork(() -> {
+                siblingStarted.countDown();
+                return sleepUntilInterrupted(siblingInterrupted);
+            });
+            Assertions.assertThat(siblingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            lookups.fork(() -> {
+                throw new IllegalArgumentException("lookup failed");
+            });
+
+            Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(slow::get)
+                    .withMessage("lookup failed");
+        }
+
+        Assertions.assertThat(siblingInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldCancelUnjoinedLookupsOnClose() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (LookupScope lookups = lookupExecutor.open()) {
+            lookups.fork(() -> {
+                started.countDown();
+                return sleepUntilInterrupted(interrupted);
+            });
+            Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        Assertions.assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static String awaitOther(CountDownLatch bothStarted, String result) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Lookups did not overlap");
+        }
+        return result;
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            return "finished";
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            return "interrupted";
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.algaworks.algashop.ordering.domain.model.commons;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+class MoneyTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void shouldRoundToTwoDecimalsHalfEven() {
+        Assertions.assertThat(new Money("10.125").value()).isEqualTo(new BigDecimal("10.12"));
+        Assertions.assertThat(new Money("10.135").value()).isEqualTo(new BigDecimal("10.14"));
+        Assertions.assertThat(new Money("10").toString()).isEqualTo("10.00");
+        Assertions.assertThat(new Money("-0.004")).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    void shouldAcceptValuesUpToTheLargestCentCount() {
+        BigDecimal largest = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+
+        Assertions.assertThat(new Money(largest).cents()).isEqualTo(Long.MAX_VALUE);
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new Money(largest.add(new BigDecimal("0.01"))));
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new Money("1e30"));
+    }
+
+    @Test
+    void shouldNotAcceptNegativeValues() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new Money("-0.01"));
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Money.ofCents(-1));
+    }
+
+    @Test
+    void shouldNotMultiplyByLessThanOne() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new Money("10").multiply(Quantity.ZERO));
+    }
+
+    @Test
+    void shouldFailInsteadOfOverflowing() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        Assertions.assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> max.add(Money.ofCents(1)));
+        Assertions.assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> max.multiply(new Quantity(2)));
+    }
+
+    @Test
+    void shouldMatchBigDecimalArithmetic() {
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal a = randomAmount();
+            BigDecimal b = randomAmount();
+            int quantity = random.nextInt(1, 1_000);
+
+            Money moneyA = new Money(a);
+            Money moneyB = new Money(b);
+            BigDecimal scaledA = a.setScale(2, RoundingMode.HALF_EVEN);
+            BigDecimal scaledB = b.setScale(2, RoundingMode.HALF_EVEN);
+
+            Assertions.assertThat(moneyA.value()).isEqualTo(scaledA);
+            Assertions.assertThat(moneyA.toString()).isEqualTo(scaledA.toString());
+            Assertions.assertThat(moneyA.add(moneyB).value())
+                    .isEqualTo(scaledA.add(scaledB).setScale(2, RoundingMode.HALF_EVEN));
+            Assertions.assertThat(moneyA.multiply(new Quantity(quantity)).value())
+                    .isEqualTo(scaledA.multiply(new BigDecimal(quantity)).setScale(2, RoundingMode.HALF_EVEN));
+            Assertions.assertThat(Integer.signum(moneyA.compareTo(moneyB)))
+                    .isEqualTo(scaledA.compareTo(scaledB));
+            Assertions.assertThat(moneyA.equals(moneyB)).isEqualTo(scaledA.equals(scaledB));
+
+            if (scaledB.signum() > 0) {
+                Assertions.assertThat(moneyA.divide(moneyB).value())
+                        .isEqualTo(scaledA.divide(scaledB, RoundingMode.HALF_EVEN).setScale(2, RoundingMode.HALF_EVEN));
+            }
+        }
+    }
+
+    private BigDecimal randomAmount() {
+        int scale = random.nextInt(0, 5);
+        long unscaled = switch (random.nextInt(3)) {
+            case 0 -> random.nextLong(0, 1_000);
+            case 1 -> random.nextLong(0, 10_000_000);
+            default -> random.nextLong(0, 1_000_000_000_000L);
+        };
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+}
@@ -9,6 +9,8 @@ import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuild
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 class CustomerLoyaltyPointsServiceTest {
 
     CustomerLoyaltyPointsService customerLoyaltyPointsService
@@ -41,4 +43,29 @@ class CustomerLoyaltyPointsServiceTest {
         Assertions.assertThat(customer.loyaltyPoints()).isEqualTo(new LoyaltyPoints(0));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenValidCustomerAndOrders_WhenAddingPointsInBatch_ShouldAccumulateOnce() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.READY).build();
+        Order otherOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.READY).build();
+
+        customerLoyaltyPointsService.addPoints(customer, List.of(order, otherOrder));
+
+        Assertions.assertThat(customer.loyaltyPoints()).isEqualTo(new LoyaltyPoints(60));
+    }
+
+    @Test
+    public void givenOrderNotReadyInBatch_WhenAddingPoints_ShouldNotAccumulateAny() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.READY).build();
+        Order placedOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+
+        Assertions.assertThatExceptionOfType(CantAddLoyaltyPointsOrderIsNotReady.class)
+                .isThrownBy(() -> customerLoyaltyPointsService.addPoints(customer, List.of(order, placedOrder)));
+
+        Assertions.assertThat(customer.loyaltyPoints()).isEqualTo(LoyaltyPoints.ZERO);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.algaworks.algashop.ordering.domain.model.order;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductName;
+import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+class OrderIncrementalTotalsTest {
+
+    private static final int OPERATIONS = 200;
+
+    @RepeatedTest(50)
+    void givenRandomEdits_whenChangingDraftOrder_shouldKeepTotalsEqualToFullRecomputation(RepetitionInfo repetition) {
+        Random random = new Random(repetition.getCurrentRepetition());
+        Order order = OrderTestDataBuilder.anOrder().withItems(false).build();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            applyRandomEdit(order, random);
+            assertTotalsMatchItems(order);
+        }
+    }
+
+    @RepeatedTest(20)
+    void givenExistingOrder_whenChanging_shouldKeepTotalsEqualToFullRecomputation(RepetitionInfo repetition) {
+        Random random = new Random(repetition.getCurrentRepetition());
+        Order draft = OrderTestDataBuilder.anOrder().withItems(false).build();
+        for (int i = 0; i < 10; i++) {
+            draft.addItem(randomProduct(random), new Quantity(random.nextInt(1, 20)));
+        }
+
+        Order order = Order.existing()
+                .id(draft.id())
+                .version(draft.version())
+                .customerId(draft.customerId())
+                .totalAmount(draft.totalAmount())
+                .totalItems(draft.totalItems())
+                .billing(draft.billing())
+                .shipping(draft.shipping())
+                .status(draft.status())
+                .paymentMethod(draft.paymentMethod())
+                .items(new HashSet<>(draft.items()))
+                .build();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            applyRandomEdit(order, random);
+            assertTotalsMatchItems(order);
+        }
+    }
+
+    private void applyRandomEdit(Order order, Random random) {
+        List<OrderItem> items = new ArrayList<>(order.items());
+        int operation = items.isEmpty() ? 0 : random.nextInt(4);
+
+        switch (operation) {
+            case 0 -> order.addItem(randomProduct(random), new Quantity(random.nextInt(1, 20)));
+            case 1 -> {
+                OrderItem item = items.get(random.nextInt(items.size()));
+                order.changeItemQuantity(item.id(), new Quantity(random.nextInt(1, 50)));
+            }
+            case 2 -> {
+                OrderItem item = items.get(random.nextInt(items.size()));
+                order.removeItem(item.id());
+                Assertions.assertThatExceptionOfType(OrderDoesNotContainOrderItemException.class)
+                        .isThrownBy(() -> order.changeItemQuantity(item.id(), new Quantity(1)));
+            }
+            default -> order.changeShipping(random.nextBoolean()
+                    ? OrderTestDataBuilder.aShipping()
+                    : OrderTestDataBuilder.aShippingAlt());
+        }
+    }
+
+    private Product randomProduct(Random random) {
+        return ProductTestDataBuilder.aProduct()
+                .id(new ProductId())
+                .name(new ProductName("Product"))
+                .price(new Money(BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2)))
+                .build();
+    }
+
+    private void assertTotalsMatchItems(Order order) {
+        BigDecimal expectedAmount = order.items().stream()
+                .map(item -> item.totalAmount().value())
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .add(order.shipping().cost().value());
+        int expectedQuantity = order.items().stream()
+                .mapToInt(item -> item.quantity().value())
+                .sum();
+
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money(expectedAmount));
+        Assertions.assertThat(order.totalItems()).isEqualTo(new Quantity(expectedQuantity));
+    }
+
+}
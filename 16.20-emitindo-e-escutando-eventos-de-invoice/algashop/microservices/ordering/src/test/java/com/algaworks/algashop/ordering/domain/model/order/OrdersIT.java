@@ -4,20 +4,34 @@ import com.algaworks.algashop.ordering.domain.model.customer.Customers;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.model.commons.Money;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.infrastructure.beans.EventHandlerExecutorConfig;
+import com.algaworks.algashop.ordering.infrastructure.listener.order.OrderEventListener;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityAssembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.CustomerSalesStatsProjector;
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityAssembler;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityDisassembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.CustomerSalesStatsPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository;
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityDisassembler;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomersPersistenceProvider;
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrdersPersistenceProvider;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryProjector;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.SalesCalendar;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Year;
 import java.util.List;
 import java.util.Optional;
@@ -30,8 +44,13 @@ import static org.assertj.core.api.Assertions.assertThat;
         OrderPersistenceEntityAssembler.class,
         OrderPersistenceEntityDisassembler.class,
         CustomersPersistenceProvider.class,
+        OrderSummaryProjector.class,
+        SalesCalendar.class,
         CustomerPersistenceEntityAssembler.class,
-        CustomerPersistenceEntityDisassembler.class
+        CustomerPersistenceEntityDisassembler.class,
+        OrderEventListener.class,
+        CustomerSalesStatsProjector.class,
+        EventHandlerExecutorConfig.class
 })
 class OrdersIT {
 
@@ -44,6 +63,21 @@ class OrdersIT {
         this.customers = customers;
     }
 
+    @Autowired
+    private CustomerSalesStatsPersistenceEntityRepository statsRepository;
+
+    @Autowired
+    private OrderPersistenceEntityRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryPersistenceEntityRepository summaryRepository;
+
+    @Autowired
+    private CustomerPersistenceEntityRepository customerRepository;
+
+    @Autowired
+    private CustomerSalesStatsProjector salesStatsProjector;
+
     @BeforeEach
     public void setup() {
         if (!customers.exists(CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID)) {
@@ -53,6 +87,14 @@ class OrdersIT {
         }
     }
 
+    @AfterEach
+    public void cleanup() {
+        statsRepository.deleteAll();
+        summaryRepository.deleteAll();
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
     @Test
     public void shouldPersistAndFind() {
         Order originalOrder = OrderTestDataBuilder.anOrder().build();
@@ -118,6 +160,45 @@ class OrdersIT {
 
     }
 
+    @Test
+    public void shouldPersistAllAndUpdateExistingOrders() {
+        Order existingOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(existingOrder);
+
+        existingOrder = orders.ofId(existingOrder.id()).orElseThrow();
+        existingOrder.markAsPaid();
+
+        Order newOrder1 = OrderTestDataBuilder.anOrder().build();
+        Order newOrder2 = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+
+        orders.addAll(List.of(existingOrder, newOrder1, newOrder2));
+
+        Assertions.assertThat(orders.count()).isEqualTo(3L);
+        Assertions.assertThat(orders.ofId(existingOrder.id()).orElseThrow().isPaid()).isTrue();
+        Assertions.assertThat(orders.ofId(newOrder1.id()).orElseThrow().items()).hasSize(2);
+        Assertions.assertThat(orders.ofId(newOrder2.id()).orElseThrow().isPlaced()).isTrue();
+
+        Assertions.assertThat(existingOrder.version()).isNotNull();
+        Assertions.assertThat(newOrder1.version()).isNotNull();
+    }
+
+    @Test
+    public void shouldNotAllowStaleUpdatesOnAddAll() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(order);
+
+        Order orderT1 = orders.ofId(order.id()).orElseThrow();
+        Order orderT2 = orders.ofId(order.id()).orElseThrow();
+
+        orderT1.markAsPaid();
+        orders.addAll(List.of(orderT1));
+
+        orderT2.cancel();
+
+        Assertions.assertThatExceptionOfType(ObjectOptimisticLockingFailureException.class)
+                .isThrownBy(()-> orders.addAll(List.of(orderT2)));
+    }
+
     @Test
     public void shouldCountExistingOrders() {
         Assertions.assertThat(orders.count()).isZero();
@@ -174,51 +255,98 @@ class OrdersIT {
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void shouldReturnTotalSoldByCustomer() {
-        Order order1 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
-        Order order2 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
+        CustomerId customerId = aCustomer();
+        Order order1 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
+        Order order2 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
 
         orders.add(order1);
         orders.add(order2);
 
         orders.add(
-                OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).build()
+                OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).customerId(customerId).build()
         );
 
         orders.add(
-                OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build()
+                OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customerId).build()
         );
 
         Money expectedTotalAmount = order1.totalAmount().add(order2.totalAmount());
 
-        CustomerId customerId = CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID;
-
-        Assertions.assertThat(orders.totalSoldForCustomer(customerId)).isEqualTo(expectedTotalAmount);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                Assertions.assertThat(orders.totalSoldForCustomer(customerId)).isEqualTo(expectedTotalAmount));
 
         Assertions.assertThat(orders.totalSoldForCustomer(new CustomerId())).isEqualTo(Money.ZERO);
 
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void shouldReturnSalesQuantityByCustomer() {
-        Order order1 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
-        Order order2 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
+        CustomerId customerId = aCustomer();
+        Order order1 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
+        Order order2 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
 
         orders.add(order1);
         orders.add(order2);
 
         orders.add(
-                OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).build()
+                OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).customerId(customerId).build()
         );
 
         orders.add(
-                OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build()
+                OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customerId).build()
         );
 
-        CustomerId customerId = CustomerTestDataBuilder.DEFAULT_CUSTOMER_ID;
-
-        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(2L);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(2L));
         Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now().minusYears(1))).isZero();
     }
 
- }
\ No newline at end of file
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shouldDiscountSalesWhenPaidOrderIsCanceled() {
+        CustomerId customerId = aCustomer();
+        Order paidOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
+        Order otherPaidOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
+        orders.add(paidOrder);
+        orders.add(otherPaidOrder);
+
+        Order order = orders.ofId(paidOrder.id()).orElseThrow();
+        order.cancel();
+        orders.add(order);
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(1L);
+            Assertions.assertThat(orders.totalSoldForCustomer(customerId)).isEqualTo(otherPaidOrder.totalAmount());
+        });
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shouldKeepSalesStatsUnchangedWhenProjectionIsRepeated() {
+        CustomerId customerId = aCustomer();
+        Order paidOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
+        Order canceledOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).customerId(customerId).build();
+        orders.add(paidOrder);
+        orders.add(canceledOrder);
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(1L));
+
+        salesStatsProjector.orderPaid(paidOrder.id());
+        salesStatsProjector.orderPaid(paidOrder.id());
+        salesStatsProjector.orderCanceled(canceledOrder.id());
+
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(1L);
+        Assertions.assertThat(orders.totalSoldForCustomer(customerId)).isEqualTo(paidOrder.totalAmount());
+    }
+
+    private CustomerId aCustomer() {
+        CustomerId customerId = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId).build());
+        return customerId;
+    }
+
+}
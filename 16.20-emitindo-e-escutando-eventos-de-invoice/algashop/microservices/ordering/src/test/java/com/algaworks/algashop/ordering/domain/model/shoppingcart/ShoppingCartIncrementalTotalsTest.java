@@ -0,0 +1,126 @@
+package com.algaworks.algashop.ordering.domain.model.shoppingcart;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductName;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+class ShoppingCartIncrementalTotalsTest {
+
+    private static final int OPERATIONS = 200;
+
+    @RepeatedTest(50)
+    void givenRandomEdits_whenChangingShoppingCart_shouldKeepTotalsEqualToFullRecomputation(RepetitionInfo repetition) {
+        Random random = new Random(repetition.getCurrentRepetition());
+        List<ProductId> catalog = aCatalog(20);
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            applyRandomEdit(shoppingCart, catalog, random);
+            assertTotalsMatchItems(shoppingCart);
+            assertItemsAreIndexed(shoppingCart);
+        }
+    }
+
+    @RepeatedTest(20)
+    void givenExistingShoppingCart_whenChanging_shouldKeepTotalsEqualToFullRecomputation(RepetitionInfo repetition) {
+        Random random = new Random(repetition.getCurrentRepetition());
+        List<ProductId> catalog = aCatalog(20);
+        ShoppingCart started = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        for (int i = 0; i < 10; i++) {
+            started.addItem(randomProduct(catalog, random, true), new Quantity(random.nextInt(1, 20)));
+        }
+
+        ShoppingCart shoppingCart = ShoppingCart.existing()
+                .id(started.id())
+                .version(started.version())
+                .customerId(started.customerId())
+                .totalAmount(started.totalAmount())
+                .totalItems(started.totalItems())
+                .createdAt(OffsetDateTime.now())
+                .items(new HashSet<>(started.items()))
+                .build();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            applyRandomEdit(shoppingCart, catalog, random);
+            assertTotalsMatchItems(shoppingCart);
+            assertItemsAreIndexed(shoppingCart);
+        }
+    }
+
+    private void applyRandomEdit(ShoppingCart shoppingCart, List<ProductId> catalog, Random random) {
+        List<ShoppingCartItem> items = new ArrayList<>(shoppingCart.items());
+        int operation = items.isEmpty() ? 0 : random.nextInt(20);
+
+        if (operation < 8) {
+            shoppingCart.addItem(randomProduct(catalog, random, true), new Quantity(random.nextInt(1, 20)));
+        } else if (operation < 12) {
+            ShoppingCartItem item = items.get(random.nextInt(items.size()));
+            shoppingCart.changeItemQuantity(item.id(), new Quantity(random.nextInt(1, 50)));
+        } else if (operation < 15) {
+            ShoppingCartItem item = items.get(random.nextInt(items.size()));
+            shoppingCart.refreshItem(aProduct(item.productId(), random, random.nextBoolean()));
+        } else if (operation < 19) {
+            ShoppingCartItem item = items.get(random.nextInt(items.size()));
+            shoppingCart.removeItem(item.id());
+            Assertions.assertThatExceptionOfType(ShoppingCartDoesNotContainItemException.class)
+                    .isThrownBy(() -> shoppingCart.findItem(item.id()));
+            Assertions.assertThatExceptionOfType(ShoppingCartDoesNotContainProductException.class)
+                    .isThrownBy(() -> shoppingCart.findItem(item.productId()));
+        } else {
+            shoppingCart.empty();
+        }
+    }
+
+    private List<ProductId> aCatalog(int size) {
+        List<ProductId> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            catalog.add(new ProductId());
+        }
+        return catalog;
+    }
+
+    private Product randomProduct(List<ProductId> catalog, Random random, boolean inStock) {
+        return aProduct(catalog.get(random.nextInt(catalog.size())), random, inStock);
+    }
+
+    private Product aProduct(ProductId productId, Random random, boolean inStock) {
+        return Product.builder()
+                .id(productId)
+                .name(new ProductName("Product"))
+                .price(new Money(BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2)))
+                .inStock(inStock)
+                .build();
+    }
+
+    private void assertTotalsMatchItems(ShoppingCart shoppingCart) {
+        BigDecimal expectedAmount = shoppingCart.items().stream()
+                .map(item -> item.totalAmount().value())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int expectedQuantity = shoppingCart.items().stream()
+                .mapToInt(item -> item.quantity().value())
+                .sum();
+
+        Assertions.assertThat(shoppingCart.totalAmount()).isEqualTo(new Money(expectedAmount));
+        Assertions.assertThat(shoppingCart.totalItems()).isEqualTo(new Quantity(expectedQuantity));
+    }
+
+    private void assertItemsAreIndexed(ShoppingCart shoppingCart) {
+        for (ShoppingCartItem item : shoppingCart.items()) {
+            Assertions.assertThat(shoppingCart.findItem(item.id())).isSameAs(item);
+            Assertions.assertThat(shoppingCart.findItem(item.productId())).isSameAs(item);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.algaworks.algashop.ordering.infrastructure.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AsyncEventHandlerExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlatformTransactionManager transactionManager;
+    private AsyncEventHandlerExecutor eventHandlerExecutor;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        Mockito.when(transactionManager.getTransaction(Mockito.any())).thenReturn(new SimpleTransactionStatus());
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10));
+        eventHandlerExecutor = new AsyncEventHandlerExecutor(executor, new TransactionTemplate(transactionManager),
+                3, Duration.ofMillis(1), Duration.ofSeconds(5));
+        eventHandlerExecutor.bindTo(meterRegistry);
+    }
+
+    @Test
+    public void shouldRetryOptimisticLockFailuresInFreshTransactions() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+
+        eventHandlerExecutor.executeAfterCommit("test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+        });
+        eventHandlerExecutor.close();
+
+        Assertions.assertThat(attempts).hasValue(3);
+        Mockito.verify(transactionManager, Mockito.times(3)).getTransaction(Mockito.any());
+        Mockito.verify(transactionManager, Mockito.times(2)).rollback(Mockito.any());
+        Mockito.verify(transactionManager).commit(Mockito.any());
+        Assertions.assertThat(meterRegistry.get("algashop.events.handler.retries").tag("handler", "test")
+                .counter().count()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("algashop.events.handler.duration")
+                .tags("handler", "test", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldGiveUpAfterMaxAttemptsAndRecordFailure() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+
+        eventHandlerExecutor.executeAfterCommit("test", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        });
+        eventHandlerExecutor.close();
+
+        Assertions.assertThat(attempts).hasValue(3);
+        Assertions.assertThat(meterRegistry.get("algashop.events.handler.duration")
+                .tags("handler", "test", "outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotRetryOtherFailures() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+
+        eventHandlerExecutor.executeAfterCommit("test", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        });
+        eventHandlerExecutor.close();
+
+        Assertions.assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    public void shouldRunFallbackOnlyAfterLastAttemptFails() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger fallbacks = new AtomicInteger();
+
+        eventHandlerExecutor.execute("failing", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }, () -> fallbacks.compareAndSet(0, attempts.get()));
+        eventHandlerExecutor.execute("succeeding", () -> { }, fallbacks::incrementAndGet);
+        eventHandlerExecutor.close();
+
+        Assertions.assertThat(fallbacks).hasValue(3);
+    }
+
+    @Test
+    public void shouldDrainQueuedHandlersOnClose()throws InterruptedException {
+        AtomicInteger handled = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            eventHandlerExecutor.execute("test", () -> {
+                sleep(Duration.ofMillis(20));
+                handled.incrementAndGet();
+            });
+        }
+        eventHandlerExecutor.close();
+
+        Assertions.assertThat(handled).hasValue(5);
+    }
+
+    @Test
+    public void shouldRunHandlersSubmittedAfterCloseOnCallerThread() throws InterruptedException {
+        AtomicInteger handled = new AtomicInteger();
+        eventHandlerExecutor.close();
+
+        eventHandlerExecutor.execute("test", handled::incrementAndGet);
+
+        Assertions.assertThat(handled).hasValue(1);
+        Assertions.assertThat(meterRegistry.get("algashop.events.handler.duration")
+                .tags("handler", "test", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRunHandlersOnCallerThreadWhenQueueIsFull() throws InterruptedException {
+        Thread caller = Thread.currentThread();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+
+        for (int i = 0; i < 12; i++) {
+            eventHandlerExecutor.execute("test", () -> {
+                if (Thread.currentThread() == caller) {
+                    release.countDown();
+                } else {
+                    await(release);
+                }
+                handled.incrementAndGet();
+            });
+        }
+        eventHandlerExecutor.close();
+
+        Assertions.assertThat(release.getCount()).isZero();
+        Assertions.assertThat(handled).hasValue(12);
+    }
+
+    @Test
+    public void shouldExposeQueueDepth() {
+        Assertions.assertThat(meterRegistry.get("executor.queued").tag("name", "event-handlers").gauge().value())
+                .isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
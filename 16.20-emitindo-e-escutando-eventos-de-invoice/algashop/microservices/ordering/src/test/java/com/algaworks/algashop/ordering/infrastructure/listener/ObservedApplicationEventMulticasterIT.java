@@ -0,0 +1,79 @@
+package com.algaworks.algashop.ordering.infrastructure.listener;
+
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerArchivedEvent;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.time.OffsetDateTime;
+
+@SpringBootTest
+class ObservedApplicationEventMulticasterIT {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void shouldRecordPublishAndListenerTimings() {
+        applicationEventPublisher.publishEvent(new CustomerArchivedEvent(new CustomerId(), OffsetDateTime.now()));
+
+        Assertions.assertThat(meterRegistry.get("algashop.events.publish")
+                .tag("event", "CustomerArchivedEvent")
+                .timer().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("algashop.events.listener")
+                .tag("event", "CustomerArchivedEvent")
+                .tag("listener", "CustomerEventListener.listen")
+                .tag("error", "none")
+                .timer().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("algashop.events.listener.active")
+                .tag("event", "CustomerArchivedEvent")
+                .longTaskTimer().activeTasks()).isZero();
+    }
+
+    @Test
+    public void shouldRecordListenerFailures() {
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> applicationEventPublisher.publishEvent(new FailingEvent()));
+
+        Assertions.assertThat(meterRegistry.get("algashop.events.listener")
+                .tag("event", "FailingEvent")
+                .tag("listener", "ObservedApplicationEventMulticasterIT.FailingEventListener.listen")
+                .tag("error", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("algashop.events.publish")
+                .tag("event", "FailingEvent")
+                .tag("error", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotObserveFrameworkEvents() {
+        Assertions.assertThat(meterRegistry.find("algashop.events.publish")
+                .tag("event", "ContextRefreshedEvent")
+                .timer()).isNull();
+        Assertions.assertThat(meterRegistry.find("algashop.events.listener")
+                .tag("listener", "ApplicationAvailabilityBean")
+                .timer()).isNull();
+    }
+
+    record FailingEvent() {
+    }
+
+    @TestConfiguration
+    static class FailingEventListener {
+
+        @EventListener
+        public void listen(FailingEvent event) {
+            throw new IllegalStateException("listener failed");
+        }
+    }
+}
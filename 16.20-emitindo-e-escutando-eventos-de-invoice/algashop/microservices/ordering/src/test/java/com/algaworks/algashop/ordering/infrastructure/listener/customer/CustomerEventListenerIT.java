@@ -18,7 +18,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.OffsetDateTime;
-import java.util.UUID;
+import java.util.Collection;
 
 @SpringBootTest
 class CustomerEventListenerIT {
@@ -47,9 +47,9 @@ class CustomerEventListenerIT {
 
         Mockito.verify(customerEventListener).listen(Mockito.any(OrderReadyEvent.class));
 
-        Mockito.verify(loyaltyPointsApplicationService).addLoyaltyPoints(
-                Mockito.any(UUID.class),
-                Mockito.any(String.class)
+        Mockito.verify(loyaltyPointsApplicationService, Mockito.timeout(5000)).addLoyaltyPoints(
+                Mockito.any(),
+                Mockito.<Collection<String>>argThat(orderIds -> orderIds.size() == 1)
         );
     }
 
@@ -66,7 +66,7 @@ class CustomerEventListenerIT {
 
         Mockito.verify(customerEventListener).listen(Mockito.any(CustomerRegisteredEvent.class));
 
-        Mockito.verify(notificationApplicationService)
+        Mockito.verify(notificationApplicationService, Mockito.timeout(5000))
                 .notifyNewRegistration(Mockito.any(NotifyNewRegistrationInput.class));
     }
 
@@ -0,0 +1,119 @@
+package com.algaworks.algashop.ordering.infrastructure.listener.customer;
+
+import com.algaworks.algashop.ordering.application.customer.loyaltypoints.CustomerLoyaltyPointsApplicationService;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.order.OrderId;
+import com.algaworks.algashop.ordering.domain.model.order.OrderNotFoundException;
+import com.algaworks.algashop.ordering.domain.model.order.OrderReadyEvent;
+import com.algaworks.algashop.ordering.infrastructure.listener.AsyncEventHandlerExecutor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+class LoyaltyPointsBatcherTest {
+
+    private CustomerLoyaltyPointsApplicationService loyaltyPointsApplicationService;
+    private AsyncEventHandlerExecutor eventHandlerExecutor;
+
+    @BeforeEach
+    public void setup() {
+        loyaltyPointsApplicationService = Mockito.mock(CustomerLoyaltyPointsApplicationService.class);
+
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        Mockito.when(transactionManager.getTransaction(Mockito.any())).thenReturn(new SimpleTransactionStatus());
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10));
+        eventHandlerExecutor = new AsyncEventHandlerExecutor(executor, new TransactionTemplate(transactionManager),
+                1, Duration.ofMillis(1), Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void shouldCreditReadyOrdersOfTheSameCustomerTogether() throws InterruptedException {
+        LoyaltyPointsBatcher batcher = windowedBatcher();
+        CustomerId customerId = new CustomerId();
+        OrderId orderId = new OrderId();
+        OrderId otherOrderId = new OrderId();
+
+        batcher.addAfterCommit(new OrderReadyEvent(orderId, customerId, OffsetDateTime.now()));
+        batcher.addAfterCommit(new OrderReadyEvent(otherOrderId, customerId, OffsetDateTime.now()));
+        batcher.addAfterCommit(new OrderReadyEvent(orderId, customerId, OffsetDateTime.now()));
+
+        Assertions.assertThat(batcher.flush()).isEqualTo(1);
+        eventHandlerExecutor.close();
+
+        Mockito.verify(loyaltyPointsApplicationService).addLoyaltyPoints(
+                Mockito.eq(customerId.value()),
+                Mockito.<Collection<String>>argThat(orderIds ->
+                        List.copyOf(orderIds).equals(List.of(orderId.toString(), otherOrderId.toString())))
+        );
+    }
+
+    @Test
+    public void shouldCreditEachReadyOrderRightAwayWithoutWindow() throws InterruptedException {
+        LoyaltyPointsBatcher batcher = new LoyaltyPointsBatcher(loyaltyPointsApplicationService,
+                eventHandlerExecutor, 500, false);
+        CustomerId customerId = new CustomerId();
+
+        batcher.addAfterCommit(new OrderReadyEvent(new OrderId(), customerId, OffsetDateTime.now()));
+        batcher.addAfterCommit(new OrderReadyEvent(new OrderId(), customerId, OffsetDateTime.now()));
+        eventHandlerExecutor.close();
+
+        Assertions.assertThat(batcher.flush()).isZero();
+        Mockito.verify(loyaltyPointsApplicationService, Mockito.times(2)).addLoyaltyPoints(
+                Mockito.eq(customerId.value()),
+                Mockito.<Collection<String>>argThat(orderIds -> orderIds.size() == 1)
+        );
+    }
+
+    @Test
+    public void shouldCreditOrdersOneByOneWhenTheirBatchFails() throws InterruptedException {
+        LoyaltyPointsBatcher batcher = windowedBatcher();
+        CustomerId customerId = new CustomerId();
+        OrderId orderId = new OrderId();
+        OrderId missingOrderId = new OrderId();
+
+        Mockito.doThrow(new OrderNotFoundException()).when(loyaltyPointsApplicationService)
+                .addLoyaltyPoints(Mockito.eq(customerId.value()), Mockito.<Collection<String>>any());
+        Mockito.doThrow(new OrderNotFoundException()).when(loyaltyPointsApplicationService)
+                .addLoyaltyPoints(customerId.value(), missingOrderId.toString());
+
+        batcher.addAfterCommit(new OrderReadyEvent(orderId, customerId, OffsetDateTime.now()));
+        batcher.addAfterCommit(new OrderReadyEvent(missingOrderId, customerId, OffsetDateTime.now()));
+        batcher.flush();
+        eventHandlerExecutor.close();
+
+        Mockito.verify(loyaltyPointsApplicationService).addLoyaltyPoints(customerId.value(), orderId.toString());
+        Mockito.verify(loyaltyPointsApplicationService).addLoyaltyPoints(customerId.value(), missingOrderId.toString());
+    }
+
+    @Test
+    public void shouldFlushPendingOrdersOnShutdown() throws InterruptedException {
+        LoyaltyPointsBatcher batcher = windowedBatcher();
+        CustomerId customerId = new CustomerId();
+
+        batcher.addAfterCommit(new OrderReadyEvent(new OrderId(), customerId, OffsetDateTime.now()));
+        batcher.flushOnShutdown();
+        eventHandlerExecutor.close();
+
+        Mockito.verify(loyaltyPointsApplicationService).addLoyaltyPoints(
+                Mockito.eq(customerId.value()),
+                Mockito.<Collection<String>>argThat(orderIds -> orderIds.size() == 1)
+        );
+    }
+
+    private LoyaltyPointsBatcher windowedBatcher() {
+        return new LoyaltyPointsBatcher(loyaltyPointsApplicationService, eventHandlerExecutor, 500, true);
+    }
+}
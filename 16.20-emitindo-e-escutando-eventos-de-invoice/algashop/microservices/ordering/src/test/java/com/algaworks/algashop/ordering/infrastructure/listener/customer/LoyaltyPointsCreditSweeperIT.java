@@ -0,0 +1,103 @@
+package com.algaworks.algashop.ordering.infrastructure.listener.customer;
+
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.customer.Customers;
+import com.algaworks.algashop.ordering.domain.model.order.Order;
+import com.algaworks.algashop.ordering.domain.model.order.OrderStatus;
+import com.algaworks.algashop.ordering.domain.model.order.OrderTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.order.Orders;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.LoyaltyPointsCreditPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryPersistenceEntityRepository;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@SpringBootTest
+class LoyaltyPointsCreditSweeperIT {
+
+    @Autowired
+    private LoyaltyPointsBatcher loyaltyPointsBatcher;
+
+    @Autowired
+    private Orders orders;
+
+    @Autowired
+    private Customers customers;
+
+    @Autowired
+    private OrderPersistenceEntityRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryPersistenceEntityRepository summaryRepository;
+
+    @Autowired
+    private CustomerPersistenceEntityRepository customerRepository;
+
+    @Autowired
+    private LoyaltyPointsCreditPersistenceEntityRepository loyaltyPointsCreditRepository;
+
+    private LoyaltyPointsCreditSweeper sweeper;
+
+    private CustomerId customerId;
+    private Order order;
+
+    @BeforeEach
+    public void setup() {
+        sweeper = new LoyaltyPointsCreditSweeper(orderRepository, loyaltyPointsBatcher,
+                Duration.ofDays(1), Duration.ZERO, 500);
+
+        customerId = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId).build());
+        order = OrderTestDataBuilder.anOrder().status(OrderStatus.READY).customerId(customerId).build();
+        order.clearDomainEvents();
+        orders.add(order);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        long orderId = order.id().value().toLong();
+        loyaltyPointsCreditRepository.deleteAllByIdInBatch(List.of(orderId));
+        summaryRepository.deleteById(orderId);
+        orderRepository.deleteById(orderId);
+        customerRepository.deleteAllById(List.of(customerId.value()));
+    }
+
+    @Test
+    public void shouldCreditReadyOrdersLeftWithoutCredit() {
+        Assertions.assertThat(sweeper.sweep()).isPositive();
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() ->
+                !loyaltyPointsCreditRepository.findCreditedOrderIds(List.of(order.id().value().toLong())).isEmpty());
+        Assertions.assertThat(orderIdsWithoutCredit()).doesNotContain(order.id().value().toLong());
+    }
+
+    @Test
+    public void shouldLeaveRecentlyReadyOrdersToTheRegularPath() {
+        LoyaltyPointsCreditSweeper sweeperWithGrace = new LoyaltyPointsCreditSweeper(orderRepository,
+                loyaltyPointsBatcher, Duration.ofDays(1), Duration.ofMinutes(5), 500);
+
+        sweeperWithGrace.sweep();
+
+        Assertions.assertThat(orderIdsWithoutCredit()).contains(order.id().value().toLong());
+    }
+
+    private List<Long> orderIdsWithoutCredit() {
+        OffsetDateTime now = OffsetDateTime.now();
+        return orderRepository.readyWithoutLoyaltyPointsCredit(now.minusDays(1), now.plusMinutes(1), Limit.unlimited())
+                .stream()
+                .map(OrderPersistenceEntityRepository.ReadyOrderView::getOrderId)
+                .toList();
+    }
+}
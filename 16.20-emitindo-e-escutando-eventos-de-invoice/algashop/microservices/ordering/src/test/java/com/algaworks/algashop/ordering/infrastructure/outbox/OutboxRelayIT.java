@@ -0,0 +1,138 @@
+package com.algaworks.algashop.ordering.infrastructure.outbox;
+
+import com.algaworks.algashop.ordering.domain.model.customer.Customer;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.customer.Customers;
+import com.algaworks.algashop.ordering.infrastructure.persistence.outbox.OutboxEventRecorder;
+import com.algaworks.algashop.ordering.infrastructure.persistence.outbox.OutboxMessagePersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.persistence.outbox.OutboxMessagePersistenceEntityRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest(properties = "algashop.outbox.cleanup.retention=PT0S")
+class OutboxRelayIT {
+
+    @Autowired
+    private Customers customers;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxTransport transport;
+
+    @Autowired
+    private OutboxEventRecorder outboxEventRecorder;
+
+    @Autowired
+    private OutboxMessagePersistenceEntityRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setup() {
+        outboxRelay.relayPending();
+        transport.clear();
+    }
+
+    @Test
+    public void shouldRecordEventsWithTheAggregateAndRelayThemInOrder() {
+        Customer customer = CustomerTestDataBuilder.brandNewCustomer().build();
+        customers.add(customer);
+        customer.archive();
+        customers.add(customer);
+
+        long relayed = outboxRelay.relayPending();
+
+        Assertions.assertThat(relayed).isGreaterThanOrEqualTo(2);
+        List<OutboxMessage> messages = messagesOf(customer.id().toString());
+        Assertions.assertThat(messages)
+                .extracting(OutboxMessage::aggregateType, OutboxMessage::eventType)
+                .containsExactly(
+                        Assertions.tuple("Customer", "CustomerRegisteredEvent"),
+                        Assertions.tuple("Customer", "CustomerArchivedEvent")
+                );
+        Assertions.assertThat(messages.getFirst().payload())
+                .contains("\"customerId\":\"" + customer.id() + "\"");
+        Assertions.assertThat(rowsOf(customer.id().toString()))
+                .allSatisfy(row -> Assertions.assertThat(row.getPublishedAt()).isNotNull());
+    }
+
+    @Test
+    public void shouldNotRecordEventsWhenTheAggregateTransactionRollsBack() {
+        Customer customer = CustomerTestDataBuilder.brandNewCustomer().build();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            customers.add(customer);
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertThat(rowsOf(customer.id().toString())).isEmpty();
+    }
+
+    @Test
+    public void shouldHoldLaterMessagesOfAnAggregateUntilItsFailedMessageIsRelayed() {
+        String aggregateA = UUID.randomUUID().toString();
+        String aggregateB = UUID.randomUUID().toString();
+        outboxEventRecorder.record("Test", aggregateA, new TestEvent("A1"));
+        outboxEventRecorder.record("Test", aggregateB, new TestEvent("B1"));
+        outboxEventRecorder.record("Test", aggregateA, new TestEvent("A2"));
+        outboxEventRecorder.record("Test", aggregateB, new TestEvent("B2"));
+
+        List<String> delivered = new ArrayList<>();
+        boolean[] failNext = {true};
+        OutboxRelay relay = new OutboxRelay(repository, message -> {
+            if (message.payload().contains("A1") && failNext[0]) {
+                failNext[0] = false;
+                throw new IllegalStateException("Transport unavailable");
+            }
+            delivered.add(message.payload());
+        }, transactionManager, 2, Duration.ofDays(1));
+
+        Assertions.assertThat(relay.relayPending()).isEqualTo(1);
+        Assertions.assertThat(delivered).containsExactly("{\"name\":\"B1\"}");
+        Assertions.assertThat(rowsOf(aggregateA).getFirst().getAttempts()).isEqualTo(1);
+
+        Assertions.assertThat(relay.relayPending()).isEqualTo(3);
+        Assertions.assertThat(delivered).containsExactly(
+                "{\"name\":\"B1\"}", "{\"name\":\"A1\"}", "{\"name\":\"A2\"}", "{\"name\":\"B2\"}");
+    }
+
+    @Test
+    public void shouldDeletePublishedMessagesOlderThanRetention() {
+        Customer customer = CustomerTestDataBuilder.brandNewCustomer().build();
+        customers.add(customer);
+        outboxRelay.relayPending();
+
+        Assertions.assertThat(outboxRelay.cleanUpPublished()).isPositive();
+        Assertions.assertThat(rowsOf(customer.id().toString())).isEmpty();
+    }
+
+    private List<OutboxMessage> messagesOf(String aggregateId) {
+        return transport.messages().stream()
+                .filter(message -> message.aggregateId().equals(aggregateId))
+                .toList();
+    }
+
+    private List<OutboxMessagePersistenceEntity> rowsOf(String aggregateId) {
+        return repository.findAll().stream()
+                .filter(row -> row.getAggregateId().equals(aggregateId))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList();
+    }
+
+    record TestEvent(String name) {
+    }
+
+}
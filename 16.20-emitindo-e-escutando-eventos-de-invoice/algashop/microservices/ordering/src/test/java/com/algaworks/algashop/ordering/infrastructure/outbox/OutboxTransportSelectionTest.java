@@ -0,0 +1,54 @@
+package com.algaworks.algashop.ordering.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class OutboxTransportSelectionTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(ObjectMapper.class)
+            .withUserConfiguration(LocalFileOutboxTransport.class, InMemoryOutboxTransport.class)
+            .withBean(TransportConsumer.class);
+
+    @Test
+    public void shouldFailToStartWhenTransportIsMissing() {
+        contextRunner
+                .withPropertyValues("spring.profiles.active=dev")
+                .run(context -> Assertions.assertThat(context).hasFailed());
+    }
+
+    @Test
+    public void shouldFailToStartWithLocalTransportOutsideDevAndTest() {
+        contextRunner
+                .withPropertyValues("algashop.outbox.transport=LOCAL_FILE",
+                        "algashop.outbox.local-file.path=build/outbox.jsonl")
+                .run(context -> Assertions.assertThat(context).hasFailed());
+    }
+
+    @Test
+    public void shouldUseLocalTransportInDevProfile() {
+        contextRunner
+                .withPropertyValues("spring.profiles.active=dev",
+                        "algashop.outbox.transport=LOCAL_FILE",
+                        "algashop.outbox.local-file.path=build/outbox.jsonl")
+                .run(context -> Assertions.assertThat(context)
+                        .hasNotFailed()
+                        .getBean(OutboxTransport.class).isInstanceOf(LocalFileOutboxTransport.class));
+    }
+
+    @Test
+    public void shouldUseInMemoryTransportInTestProfile() {
+        contextRunner
+                .withPropertyValues("spring.profiles.active=test", "algashop.outbox.transport=IN_MEMORY")
+                .run(context -> Assertions.assertThat(context)
+                        .hasNotFailed()
+                        .getBean(OutboxTransport.class).isInstanceOf(InMemoryOutboxTransport.class));
+    }
+
+    static class TransportConsumer {
+        TransportConsumer(OutboxTransport transport) {
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.customer.Customers;
+import com.algaworks.algashop.ordering.domain.model.order.Order;
+import com.algaworks.algashop.ordering.domain.model.order.OrderStatus;
+import com.algaworks.algashop.ordering.domain.model.order.OrderTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.order.Orders;
+import com.algaworks.algashop.ordering.infrastructure.beans.EventHandlerExecutorConfig;
+import com.algaworks.algashop.ordering.infrastructure.listener.order.OrderEventListener;
+import com.algaworks.algashop.ordering.infrastructure.persistence.SpringDataAuditingConfig;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityAssembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityDisassembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomersPersistenceProvider;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Year;
+
+@DataJpaTest(properties = {
+        "algashop.persistence.customer-sales-stats.rebuild.chunk-size=1",
+        "algashop.persistence.customer-sales-stats.rebuild.parallelism=2"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        OrdersPersistenceProvider.class,
+        OrderPersistenceEntityAssembler.class,
+        OrderPersistenceEntityDisassembler.class,
+        CustomersPersistenceProvider.class,
+        OrderSummaryProjector.class,
+        SalesCalendar.class,
+        CustomerPersistenceEntityAssembler.class,
+        CustomerPersistenceEntityDisassembler.class,
+        OrderEventListener.class,
+        CustomerSalesStatsProjector.class,
+        CustomerSalesStatsRebuilder.class,
+        EventHandlerExecutorConfig.class,
+        SpringDataAuditingConfig.class
+})
+class CustomerSalesStatsRebuilderIT {
+
+    @Autowired
+    private Orders orders;
+
+    @Autowired
+    private Customers customers;
+
+    @Autowired
+    private CustomerSalesStatsRebuilder rebuilder;
+
+    @Autowired
+    private CustomerSalesStatsPersistenceEntityRepository statsRepository;
+
+    @Autowired
+    private OrderPersistenceEntityRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryPersistenceEntityRepository summaryRepository;
+
+    @Autowired
+    private CustomerPersistenceEntityRepository customerRepository;
+
+    @AfterEach
+    public void cleanup() {
+        statsRepository.deleteAll();
+        summaryRepository.deleteAll();
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldRebuildStatsFromOrders() {
+        CustomerId customerId1 = new CustomerId();
+        CustomerId customerId2 = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId1).build());
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId2).build());
+
+        Order order1 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId1).build();
+        Order order2 = OrderTestDataBuilder.anOrder().status(OrderStatus.READY).customerId(customerId1).build();
+        Order order3 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId2).build();
+        orders.add(order1);
+        orders.add(order2);
+        orders.add(order3);
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).customerId(customerId2).build());
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).customerId(customerId2).build());
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId1, Year.now())).isEqualTo(2L);
+            Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId2, Year.now())).isEqualTo(1L);
+        });
+
+        statsRepository.deleteAll();
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId1, Year.now())).isZero();
+
+        rebuilder.rebuild();
+
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId1, Year.now())).isEqualTo(2L);
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId2, Year.now())).isEqualTo(1L);
+        Assertions.assertThat(orders.totalSoldForCustomer(customerId1))
+                .isEqualTo(order1.totalAmount().add(order2.totalAmount()));
+        Assertions.assertThat(orders.totalSoldForCustomer(customerId2)).isEqualTo(order3.totalAmount());
+    }
+
+    @Test
+    public void shouldReconcileOnlyCustomersWhoseStatsAreOutOfStep() {
+        CustomerId customerId1 = new CustomerId();
+        CustomerId customerId2 = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId1).build());
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId2).build());
+
+        Order order1 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId1).build();
+        Order order2 = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId2).build();
+        orders.add(order1);
+        orders.add(order2);
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId1, Year.now())).isEqualTo(1L);
+            Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId2, Year.now())).isEqualTo(1L);
+        });
+        Assertions.assertThat(rebuilder.reconcile()).isZero();
+
+        statsRepository.deleteAll(statsRepository.findAll().stream()
+                .filter(stats -> stats.getId().getCustomerId().equals(customerId1.value()))
+                .toList());
+
+        Assertions.assertThat(rebuilder.reconcile()).isEqualTo(1);
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId1, Year.now())).isEqualTo(1L);
+        Assertions.assertThat(orders.totalSoldForCustomer(customerId1)).isEqualTo(order1.totalAmount());
+        Assertions.assertThat(orders.totalSoldForCustomer(customerId2)).isEqualTo(order2.totalAmount());
+    }
+
+    @Test
+    public void shouldReconcileStatsLeftBehindByCustomersWithoutPaidOrders() {
+        CustomerId customerId = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId).build());
+        Order canceledOrder = OrderTestDataBuilder.anOrder().status(OrderStatus.CANCELED).customerId(customerId).build();
+        orders.add(canceledOrder);
+
+        statsRepository.save(new CustomerSalesStatsPersistenceEntity(
+                new CustomerSalesStatsId(customerId.value(), Year.now().getValue()),
+                1L, canceledOrder.totalAmount().value()));
+
+        Assertions.assertThat(rebuilder.reconcile()).isEqualTo(1);
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isZero();
+        Assertions.assertThat(orders.totalSoldForCustomer(customerId)).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    public void shouldReconcileStatsAttributedToTheWrongYear() {
+        CustomerId customerId = new CustomerId();
+        customers.add(CustomerTestDataBuilder.existingCustomer().id(customerId).build());
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).customerId(customerId).build();
+        orders.add(order);
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(1L));
+
+        statsRepository.deleteAll();
+        statsRepository.save(new CustomerSalesStatsPersistenceEntity(
+                new CustomerSalesStatsId(customerId.value(), Year.now().minusYears(1).getValue()),
+                1L, order.totalAmount().value()));
+
+        Assertions.assertThat(rebuilder.reconcile()).isEqualTo(1);
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now())).isEqualTo(1L);
+        Assertions.assertThat(orders.salesQuantityByCustomerInYear(customerId, Year.now().minusYears(1))).isZero();
+    }
+}
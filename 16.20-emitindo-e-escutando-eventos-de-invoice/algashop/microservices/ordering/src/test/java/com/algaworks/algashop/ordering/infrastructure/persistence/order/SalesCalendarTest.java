@@ -0,0 +1,36 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.order;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+class SalesCalendarTest {
+
+    private final SalesCalendar salesCalendar = new SalesCalendar(ZoneId.of("America/Sao_Paulo"));
+
+    @Test
+    public void shouldAttributeOrdersToTheYearOfTheConfiguredZone() {
+        OffsetDateTime newYearInUtc = OffsetDateTime.of(2025, 1, 1, 1, 0, 0, 0, ZoneOffset.UTC);
+
+        Assertions.assertThat(salesCalendar.yearOf(newYearInUtc)).isEqualTo(Year.of(2024));
+    }
+
+    @Test
+    public void shouldStartYearsAtMidnightOfTheConfiguredZone() {
+        Assertions.assertThat(salesCalendar.startOf(Year.of(2025)))
+                .isEqualTo(OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-3)));
+    }
+
+    @Test
+    public void shouldPlaceEveryOrderWithinTheBoundsOfItsYear() {
+        OffsetDateTime placedAt = OffsetDateTime.of(2024, 12, 31, 23, 30, 0, 0, ZoneOffset.ofHours(-3));
+        Year year = salesCalendar.yearOf(placedAt);
+
+        Assertions.assertThat(placedAt).isAfterOrEqualTo(salesCalendar.startOf(year));
+        Assertions.assertThat(placedAt).isBefore(salesCalendar.startOf(year.plusYears(1)));
+    }
+}
@@ -0,0 +1,112 @@
+package com.algaworks.algashop.ordering.infrastructure.persistence.provider;
+
+import com.algaworks.algashop.ordering.domain.model.commons.FullName;
+import com.algaworks.algashop.ordering.domain.model.customer.Customer;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerArchivedEvent;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerRegisteredEvent;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
+import com.algaworks.algashop.ordering.infrastructure.persistence.SpringDataAuditingConfig;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityAssembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityDisassembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomersPersistenceProvider;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryProjector;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.List;
+
+@DataJpaTest
+@RecordApplicationEvents
+@Import({
+        CustomersPersistenceProvider.class,
+        OrderSummaryProjector.class,
+        CustomerPersistenceEntityAssembler.class,
+        CustomerPersistenceEntityDisassembler.class,
+        SpringDataAuditingConfig.class
+})
+class CustomersPersistenceProviderIT {
+
+    private final CustomersPersistenceProvider persistenceProvider;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    public CustomersPersistenceProviderIT(CustomersPersistenceProvider persistenceProvider) {
+        this.persistenceProvider = persistenceProvider;
+    }
+
+    @Test
+    public void shouldInsertAndUpdateCustomersOnAddAll() {
+        Customer existingCustomer = CustomerTestDataBuilder.brandNewCustomer().build();
+        persistenceProvider.add(existingCustomer);
+
+        existingCustomer = persistenceProvider.ofId(existingCustomer.id()).orElseThrow();
+        existingCustomer.changeName(new FullName("Mary", "Jones"));
+
+        Customer newCustomer1 = CustomerTestDataBuilder.brandNewCustomer().build();
+        Customer newCustomer2 = CustomerTestDataBuilder.brandNewCustomer().build();
+
+        persistenceProvider.addAll(List.of(existingCustomer, newCustomer1, newCustomer2));
+
+        Assertions.assertThat(persistenceProvider.count()).isEqualTo(3L);
+        Assertions.assertThat(persistenceProvider.ofId(existingCustomer.id()).orElseThrow().fullName())
+                .isEqualTo(new FullName("Mary", "Jones"));
+        Assertions.assertThat(persistenceProvider.exists(newCustomer1.id())).isTrue();
+        Assertions.assertThat(persistenceProvider.exists(newCustomer2.id())).isTrue();
+
+        Assertions.assertThat(existingCustomer.version()).isEqualTo(1L);
+        Assertions.assertThat(newCustomer1.version()).isEqualTo(0L);
+        Assertions.assertThat(newCustomer2.version()).isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldNotAllowStaleUpdatesOnAddAll() {
+        Customer customer = CustomerTestDataBuilder.brandNewCustomer().build();
+        persistenceProvider.add(customer);
+
+        Customer customerT1 = persistenceProvider.ofId(customer.id()).orElseThrow();
+        Customer customerT2 = persistenceProvider.ofId(customer.id()).orElseThrow();
+
+        customerT1.archive();
+        persistenceProvider.addAll(List.of(customerT1));
+
+        customerT2.changeName(new FullName("Alex", "Silva"));
+
+        Assertions.assertThatExceptionOfType(ObjectOptimisticLockingFailureException.class)
+                .isThrownBy(() -> persistenceProvider.addAll(List.of(customerT2)));
+
+        Assertions.assertThat(persistenceProvider.ofId(customer.id()).orElseThrow().isArchived()).isTrue();
+    }
+
+    @Test
+    public void shouldPublishAndClearDomainEventsOnAddAll() {
+        Customer existingCustomer = CustomerTestDataBuilder.brandNewCustomer().build();
+        persistenceProvider.add(existingCustomer);
+        existingCustomer = persistenceProvider.ofId(existingCustomer.id()).orElseThrow();
+        existingCustomer.archive();
+
+        Customer newCustomer = CustomerTestDataBuilder.brandNewCustomer().build();
+
+        applicationEvents.clear();
+
+        persistenceProvider.addAll(List.of(existingCustomer, newCustomer));
+
+        Assertions.assertThat(applicationEvents.stream(CustomerRegisteredEvent.class))
+                .extracting(CustomerRegisteredEvent::customerId)
+                .containsExactly(newCustomer.id());
+        Assertions.assertThat(applicationEvents.stream(CustomerArchivedEvent.class))
+                .extracting(CustomerArchivedEvent::customerId)
+                .containsExactly(existingCustomer.id());
+
+        Assertions.assertThat(existingCustomer.domainEvents()).isEmpty();
+        Assertions.assertThat(newCustomer.domainEvents()).isEmpty();
+    }
+
+}
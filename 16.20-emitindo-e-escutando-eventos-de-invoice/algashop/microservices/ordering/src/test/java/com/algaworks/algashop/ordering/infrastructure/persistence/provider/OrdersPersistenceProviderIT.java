@@ -12,8 +12,14 @@ import com.algaworks.algashop.ordering.infrastructure.persistence.SpringDataAudi
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityDisassembler;
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityDisassembler;
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryPersistenceEntityRepository;
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrdersPersistenceProvider;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryProjector;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.SalesCalendar;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,12 +28,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Import({
         OrdersPersistenceProvider.class,
         OrderPersistenceEntityAssembler.class,
         OrderPersistenceEntityDisassembler.class,
         CustomersPersistenceProvider.class,
+        OrderSummaryProjector.class,
+        SalesCalendar.class,
         CustomerPersistenceEntityAssembler.class,
         CustomerPersistenceEntityDisassembler.class,
         SpringDataAuditingConfig.class
@@ -37,14 +45,20 @@ class OrdersPersistenceProviderIT {
     private OrdersPersistenceProvider persistenceProvider;
     private CustomersPersistenceProvider customersPersistenceProvider;
     private OrderPersistenceEntityRepository entityRepository;
+    private OrderSummaryPersistenceEntityRepository summaryRepository;
+    private Statistics statistics;
 
     @Autowired
     public OrdersPersistenceProviderIT(OrdersPersistenceProvider persistenceProvider,
                                        CustomersPersistenceProvider customersPersistenceProvider,
-                                       OrderPersistenceEntityRepository entityRepository) {
+                                       OrderPersistenceEntityRepository entityRepository,
+                                       OrderSummaryPersistenceEntityRepository summaryRepository,
+                                       EntityManagerFactory entityManagerFactory) {
         this.persistenceProvider = persistenceProvider;
         this.customersPersistenceProvider = customersPersistenceProvider;
         this.entityRepository = entityRepository;
+        this.summaryRepository = summaryRepository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
     }
 
     @BeforeEach
@@ -84,6 +98,41 @@ class OrdersPersistenceProviderIT {
 
     }
 
+    @Test
+    public void shouldUpdateOnlyTheOrderRowWhenStatusChanges() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        persistenceProvider.add(order);
+        Long initialVersion = order.version();
+
+        order = persistenceProvider.ofId(order.id()).orElseThrow();
+        order.markAsPaid();
+
+        statistics.clear();
+        persistenceProvider.add(order);
+
+        Assertions.assertThat(statistics.getEntityUpdateCount()).isEqualTo(1L);
+        Assertions.assertThat(statistics.getEntityInsertCount()).isZero();
+        Assertions.assertThat(order.version()).isEqualTo(initialVersion + 1);
+    }
+
+    @Test
+    public void shouldUpdateOrderSummaryInPlaceWhenOrderIsPaid() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        persistenceProvider.add(order);
+
+        order = persistenceProvider.ofId(order.id()).orElseThrow();
+        order.markAsPaid();
+
+        statistics.clear();
+        persistenceProvider.add(order);
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+
+        var summary = summaryRepository.findById(order.id().value().toLong()).orElseThrow();
+        Assertions.assertThat(summary.getStatus()).isEqualTo(OrderStatus.PAID.name());
+        Assertions.assertThat(summary.getPaidAt()).isNotNull();
+    }
+
     @Test
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void shouldAddFindAndNotFailWhenNoTransaction() {
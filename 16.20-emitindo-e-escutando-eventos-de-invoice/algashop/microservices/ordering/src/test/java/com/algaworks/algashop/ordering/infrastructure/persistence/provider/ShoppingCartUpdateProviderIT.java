@@ -4,6 +4,8 @@ import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBui
 import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCart;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartItem;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ProductAvailabilityChange;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ProductPriceAdjustment;
 import com.algaworks.algashop.ordering.domain.model.commons.Money;
 import com.algaworks.algashop.ordering.domain.model.product.Product;
 import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
@@ -14,13 +16,22 @@ import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.S
 import com.algaworks.algashop.ordering.infrastructure.persistence.SpringDataAuditingConfig;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomersPersistenceProvider;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityDisassembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryProjector;
 import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntityDisassembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntity;
 import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntityRepository;
+import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartProductChangePersistenceEntityRepository;
 import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartUpdateProvider;
 import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartsPersistenceProvider;
+import com.algaworks.algashop.ordering.infrastructure.product.client.ProductNearCache;
 import org.assertj.core.api.Assertions;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
@@ -28,35 +39,58 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-@DataJpaTest
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@DataJpaTest(properties = {
+        "algashop.persistence.shopping-cart.product-changes.chunk-size=2",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 @Import({
         ShoppingCartUpdateProvider.class,
         ShoppingCartsPersistenceProvider.class,
         ShoppingCartPersistenceEntityAssembler.class,
         ShoppingCartPersistenceEntityDisassembler.class,
         CustomersPersistenceProvider.class,
+        OrderSummaryProjector.class,
         CustomerPersistenceEntityAssembler.class,
         CustomerPersistenceEntityDisassembler.class,
-        SpringDataAuditingConfig.class
+        SpringDataAuditingConfig.class,
+        ProductNearCache.class
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class ShoppingCartUpdateProviderIT {
 
+    private static final Logger log = LoggerFactory.getLogger(ShoppingCartUpdateProviderIT.class);
+
     private ShoppingCartsPersistenceProvider persistenceProvider;
     private CustomersPersistenceProvider customersPersistenceProvider;
     private ShoppingCartPersistenceEntityRepository entityRepository;
 
     private ShoppingCartUpdateProvider shoppingCartUpdateProvider;
+    private ProductNearCache productNearCache;
+
+    @Autowired
+    private ShoppingCartProductChangePersistenceEntityRepository productChangeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Autowired
     public ShoppingCartUpdateProviderIT(ShoppingCartsPersistenceProvider persistenceProvider,
                                         CustomersPersistenceProvider customersPersistenceProvider,
                                         ShoppingCartPersistenceEntityRepository entityRepository,
-                                        ShoppingCartUpdateProvider shoppingCartUpdateProvider) {
+                                        ShoppingCartUpdateProvider shoppingCartUpdateProvider,
+                                        ProductNearCache productNearCache) {
         this.persistenceProvider = persistenceProvider;
         this.customersPersistenceProvider = customersPersistenceProvider;
         this.entityRepository = entityRepository;
         this.shoppingCartUpdateProvider = shoppingCartUpdateProvider;
+        this.productNearCache = productNearCache;
     }
 
     @BeforeEach
@@ -100,6 +134,29 @@ class ShoppingCartUpdateProviderIT {
 
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NEVER)
+    void shouldRecalculateCartTotalFromItemsWhenPriceIsAdjusted() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+
+        Product product1 = ProductTestDataBuilder.aProduct().price(new Money("2000")).build();
+        Product product2 = ProductTestDataBuilder.aProductAltRamMemory().price(new Money("200")).build();
+
+        shoppingCart.addItem(product1, new Quantity(2));
+        shoppingCart.addItem(product2, new Quantity(1));
+
+        persistenceProvider.add(shoppingCart);
+
+        ShoppingCartPersistenceEntity persistenceEntity = entityRepository.findById(shoppingCart.id().value()).orElseThrow();
+        persistenceEntity.setTotalAmount(new BigDecimal("1.00"));
+        entityRepository.save(persistenceEntity);
+
+        shoppingCartUpdateProvider.adjustPrice(product1.id(), new Money("1500"));
+
+        ShoppingCart updatedShoppingCart = persistenceProvider.ofId(shoppingCart.id()).orElseThrow();
+        Assertions.assertThat(updatedShoppingCart.totalAmount()).isEqualTo(new Money("3200"));
+    }
+
     @Test
     @Transactional(propagation = Propagation.NEVER)
     void shouldUpdateItemAvailability() {
@@ -134,5 +191,146 @@ class ShoppingCartUpdateProviderIT {
 
     }
 
+    @Test
+    void shouldEvictProductFromNearCacheWhenPriceOrAvailabilityChanges() {
+        Product product = ProductTestDataBuilder.aProduct().build();
+        productNearCache.get(product.id(), id -> Optional.of(product));
+
+        shoppingCartUpdateProvider.adjustPrice(product.id(), new Money("1500"));
+
+        Assertions.assertThat(productNearCache.get(product.id(), id -> Optional.empty())).isEmpty();
+
+        productNearCache.get(product.id(), id -> Optional.of(product));
+
+        shoppingCartUpdateProvider.changeAvailability(product.id(), false);
+
+        Assertions.assertThat(productNearCache.get(product.id(), id -> Optional.empty())).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NEVER)
+    void shouldAdjustPricesInChunksKeepingTheLatestChangePerProduct() {
+        Product product1 = ProductTestDataBuilder.aProduct().price(new Money("2000")).build();
+        Product product2 = ProductTestDataBuilder.aProductAltRamMemory().price(new Money("200")).build();
+        Product product3 = ProductTestDataBuilder.aProductAltMousePad().price(new Money("100")).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product1, new Quantity(2));
+        shoppingCart.addItem(product2, new Quantity(1));
+        shoppingCart.addItem(product3, new Quantity(3));
+        persistenceProvider.add(shoppingCart);
+
+        List<Long> progress = new ArrayList<>();
+        long applied = shoppingCartUpdateProvider.adjustPrices(Stream.of(
+                new ProductPriceAdjustment(product1.id(), new Money("1000")),
+                new ProductPriceAdjustment(product2.id(), new Money("150")),
+                new ProductPriceAdjustment(product1.id(), new Money("1500")),
+                new ProductPriceAdjustment(product3.id(), new Money("50"))
+        ), progress::add);
+
+        Assertions.assertThat(applied).isEqualTo(4);
+        Assertions.assertThat(progress).containsExactly(2L, 4L);
+
+        ShoppingCart updatedShoppingCart = persistenceProvider.ofId(shoppingCart.id()).orElseThrow();
+        Assertions.assertThat(updatedShoppingCart.findItem(product1.id()).price()).isEqualTo(new Money("1500"));
+        Assertions.assertThat(updatedShoppingCart.findItem(product2.id()).price()).isEqualTo(new Money("150"));
+        Assertions.assertThat(updatedShoppingCart.findItem(product3.id()).totalAmount()).isEqualTo(new Money("150"));
+        Assertions.assertThat(updatedShoppingCart.totalAmount()).isEqualTo(new Money("3300"));
+        Assertions.assertThat(productChangeRepository.count()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NEVER)
+    void shouldAdjustPriceOnceWhenBothChangesToAProductFallInTheSameChunk() {
+        Product product1 = ProductTestDataBuilder.aProduct().price(new Money("2000")).build();
+        Product product2 = ProductTestDataBuilder.aProductAltRamMemory().price(new Money("200")).build();
+        Product product3 = ProductTestDataBuilder.aProductAltMousePad().price(new Money("100")).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product1, new Quantity(2));
+        shoppingCart.addItem(product2, new Quantity(1));
+        shoppingCart.addItem(product3, new Quantity(3));
+        persistenceProvider.add(shoppingCart);
+
+        List<Long> progress = new ArrayList<>();
+        long applied = shoppingCartUpdateProvider.adjustPrices(Stream.of(
+                new ProductPriceAdjustment(product1.id(), new Money("1000")),
+                new ProductPriceAdjustment(product1.id(), new Money("1500")),
+                new ProductPriceAdjustment(product2.id(), new Money("150")),
+                new ProductPriceAdjustment(product3.id(), new Money("50"))
+        ), progress::add);
+
+        Assertions.assertThat(applied).isEqualTo(3);
+        Assertions.assertThat(progress).containsExactly(2L, 3L);
+
+        ShoppingCart updatedShoppingCart = persistenceProvider.ofId(shoppingCart.id()).orElseThrow();
+        Assertions.assertThat(updatedShoppingCart.findItem(product1.id()).price()).isEqualTo(new Money("1500"));
+        Assertions.assertThat(updatedShoppingCart.findItem(product2.id()).price()).isEqualTo(new Money("150"));
+        Assertions.assertThat(updatedShoppingCart.findItem(product3.id()).totalAmount()).isEqualTo(new Money("150"));
+        Assertions.assertThat(updatedShoppingCart.totalAmount()).isEqualTo(new Money("3300"));
+        Assertions.assertThat(productChangeRepository.count()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NEVER)
+    void shouldChangeAvailabilitiesInChunks() {
+        Product product1 = ProductTestDataBuilder.aProduct().inStock(true).build();
+        Product product2 = ProductTestDataBuilder.aProductAltRamMemory().inStock(true).build();
+        Product product3 = ProductTestDataBuilder.aProductAltMousePad().inStock(true).build();
+
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        shoppingCart.addItem(product1, new Quantity(1));
+        shoppingCart.addItem(product2, new Quantity(1));
+        shoppingCart.addItem(product3, new Quantity(1));
+        persistenceProvider.add(shoppingCart);
+
+        long applied = shoppingCartUpdateProvider.changeAvailabilities(Stream.of(
+                new ProductAvailabilityChange(product1.id(), false),
+                new ProductAvailabilityChange(product3.id(), false)
+        ), changes -> { });
+
+        Assertions.assertThat(applied).isEqualTo(2);
+
+        ShoppingCart updatedShoppingCart = persistenceProvider.ofId(shoppingCart.id()).orElseThrow();
+        Assertions.assertThat(updatedShoppingCart.findItem(product1.id()).isAvailable()).isFalse();
+        Assertions.assertThat(updatedShoppingCart.findItem(product2.id()).isAvailable()).isTrue();
+        Assertions.assertThat(updatedShoppingCart.findItem(product3.id()).isAvailable()).isFalse();
+        Assertions.assertThat(productChangeRepository.count()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NEVER)
+    void shouldAdjustPriceOfPopularProductAcrossManyCartsWithTwoStatements() {
+        Product popularProduct = ProductTestDataBuilder.aProduct().price(new Money("2000")).build();
+
+        List<ShoppingCart> shoppingCarts = IntStream.range(0, 2000)
+                .mapToObj(i -> {
+                    ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+                    shoppingCart.addItem(popularProduct, new Quantity(1 + i % 3));
+                    shoppingCart.addItem(ProductTestDataBuilder.aProductAltRamMemory().build(), new Quantity(2));
+                    return shoppingCart;
+                })
+                .toList();
+        persistenceProvider.addAll(shoppingCarts);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        shoppingCartUpdateProvider.adjustPrice(popularProduct.id(), new Money("1500"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        log.info("Adjusted price in {} carts with {} statements in {} ms",
+                shoppingCarts.size(), statistics.getPrepareStatementCount(), elapsedMillis);
+
+        for (ShoppingCart shoppingCart : shoppingCarts) {
+            ShoppingCart updatedShoppingCart = persistenceProvider.ofId(shoppingCart.id()).orElseThrow();
+            Quantity popularQuantity = updatedShoppingCart.findItem(popularProduct.id()).quantity();
+            Assertions.assertThat(updatedShoppingCart.totalAmount())
+                    .isEqualTo(new Money("1500").multiply(popularQuantity).add(new Money("400")));
+            Assertions.assertThat(updatedShoppingCart.totalItems()).isEqualTo(shoppingCart.totalItems());
+        }
+    }
 
-}
\ No newline at end of file
+}
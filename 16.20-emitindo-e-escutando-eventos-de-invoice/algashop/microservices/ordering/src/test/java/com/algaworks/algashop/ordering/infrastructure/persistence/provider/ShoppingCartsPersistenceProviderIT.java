@@ -2,7 +2,12 @@ package com.algaworks.algashop.ordering.infrastructure.persistence.provider;
 
 import com.algaworks.algashop.ordering.domain.model.customer.Customer;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.commons.Quantity;
+import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCart;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartCreatedEvent;
+import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartItemAddedEvent;
 import com.algaworks.algashop.ordering.domain.model.customer.CustomerId;
 import com.algaworks.algashop.ordering.domain.model.shoppingcart.ShoppingCartTestDataBuilder;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityAssembler;
@@ -10,6 +15,7 @@ import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.S
 import com.algaworks.algashop.ordering.infrastructure.persistence.SpringDataAuditingConfig;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomersPersistenceProvider;
 import com.algaworks.algashop.ordering.infrastructure.persistence.customer.CustomerPersistenceEntityDisassembler;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderSummaryProjector;
 import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntityDisassembler;
 import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntityRepository;
 import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartsPersistenceProvider;
@@ -18,18 +24,27 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
 @DataJpaTest
+@RecordApplicationEvents
 @Import({
         ShoppingCartsPersistenceProvider.class,
         ShoppingCartPersistenceEntityAssembler.class,
         ShoppingCartPersistenceEntityDisassembler.class,
         CustomersPersistenceProvider.class,
+        OrderSummaryProjector.class,
         CustomerPersistenceEntityAssembler.class,
         CustomerPersistenceEntityDisassembler.class,
         SpringDataAuditingConfig.class
@@ -40,6 +55,9 @@ class ShoppingCartsPersistenceProviderIT {
     private CustomersPersistenceProvider customersPersistenceProvider;
     private ShoppingCartPersistenceEntityRepository entityRepository;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Autowired
     public ShoppingCartsPersistenceProviderIT(ShoppingCartsPersistenceProvider persistenceProvider,
                                               CustomersPersistenceProvider customersPersistenceProvider,
@@ -140,4 +158,96 @@ class ShoppingCartsPersistenceProviderIT {
             assertThat(foundCart).isNotNull();
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldInsertAndUpdateShoppingCartsOnAddAll() {
+        ShoppingCart existingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        persistenceProvider.add(existingCart);
+
+        existingCart = persistenceProvider.ofId(existingCart.id()).orElseThrow();
+        existingCart.addItem(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(4));
+
+        ShoppingCart newCart1 = ShoppingCartTestDataBuilder.aShoppingCart().customerId(aNewCustomer().id()).build();
+        ShoppingCart newCart2 = ShoppingCartTestDataBuilder.aShoppingCart().customerId(aNewCustomer().id())
+                .withItems(false).build();
+
+        persistenceProvider.addAll(List.of(existingCart, newCart1, newCart2));
+
+        ShoppingCart updatedCart = persistenceProvider.ofId(existingCart.id()).orElseThrow();
+        assertThat(updatedCart.items()).hasSize(3);
+        assertThat(updatedCart.totalItems()).isEqualTo(new Quantity(7));
+        assertThat(persistenceProvider.ofId(newCart1.id()).orElseThrow().items()).hasSize(2);
+        assertThat(persistenceProvider.ofId(newCart2.id()).orElseThrow().isEmpty()).isTrue();
+
+        assertThat(existingCart.version()).isEqualTo(1L);
+        assertThat(newCart1.version()).isEqualTo(0L);
+        assertThat(newCart2.version()).isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldNotAllowStaleUpdatesOnAddAll() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        persistenceProvider.add(shoppingCart);
+
+        ShoppingCart cartT1 = persistenceProvider.ofId(shoppingCart.id()).orElseThrow();
+        ShoppingCart cartT2 = persistenceProvider.ofId(shoppingCart.id()).orElseThrow();
+
+        cartT1.empty();
+        persistenceProvider.addAll(List.of(cartT1));
+
+        cartT2.addItem(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(1));
+
+        assertThatExceptionOfType(ObjectOptimisticLockingFailureException.class)
+                .isThrownBy(() -> persistenceProvider.addAll(List.of(cartT2)));
+
+        assertThat(persistenceProvider.ofId(shoppingCart.id()).orElseThrow().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldNotAllowUpdatesWithoutVersionOnAddAll() {
+        ShoppingCart shoppingCart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        persistenceProvider.add(shoppingCart);
+
+        ShoppingCart unversionedCart = ShoppingCart.existing()
+                .id(shoppingCart.id())
+                .customerId(shoppingCart.customerId())
+                .totalAmount(Money.ZERO)
+                .totalItems(Quantity.ZERO)
+                .createdAt(shoppingCart.createdAt())
+                .items(new HashSet<>())
+                .build();
+
+        assertThatExceptionOfType(ObjectOptimisticLockingFailureException.class)
+                .isThrownBy(() -> persistenceProvider.addAll(List.of(unversionedCart)));
+
+        assertThat(persistenceProvider.ofId(shoppingCart.id()).orElseThrow().isEmpty()).isFalse();
+    }
+
+    @Test
+    public void shouldPublishDomainEventsOnAddAll() {
+        ShoppingCart existingCart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        persistenceProvider.add(existingCart);
+        existingCart = persistenceProvider.ofId(existingCart.id()).orElseThrow();
+        existingCart.addItem(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(1));
+
+        ShoppingCart newCart = ShoppingCartTestDataBuilder.aShoppingCart().customerId(aNewCustomer().id())
+                .withItems(false).build();
+
+        applicationEvents.clear();
+
+        persistenceProvider.addAll(List.of(existingCart, newCart));
+
+        assertThat(applicationEvents.stream(ShoppingCartCreatedEvent.class))
+                .extracting(ShoppingCartCreatedEvent::shoppingCartId)
+                .containsExactly(newCart.id());
+        assertThat(applicationEvents.stream(ShoppingCartItemAddedEvent.class))
+                .extracting(ShoppingCartItemAddedEvent::shoppingCartId)
+                .containsExactly(existingCart.id());
+    }
+
+    private Customer aNewCustomer() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().id(new CustomerId()).build();
+        customersPersistenceProvider.add(customer);
+        return customer;
+    }
+}
@@ -8,6 +8,7 @@ import com.algaworks.algashop.ordering.infrastructure.persistence.entity.Custome
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntity;
 import com.algaworks.algashop.ordering.infrastructure.persistence.entity.OrderPersistenceEntityTestDataBuilder;
 import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntityRepository;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
+import java.util.List;
 import java.util.UUID;
 
 @DataJpaTest
@@ -25,14 +27,17 @@ class OrderPersistenceEntityRepositoryIT {
 
     private final OrderPersistenceEntityRepository orderPersistenceEntityRepository;
     private final CustomerPersistenceEntityRepository customerPersistenceEntityRepository;
+    private final EntityManager entityManager;
 
     private CustomerPersistenceEntity customerPersistenceEntity;
 
     @Autowired
     public OrderPersistenceEntityRepositoryIT(OrderPersistenceEntityRepository orderPersistenceEntityRepository,
-                                              CustomerPersistenceEntityRepository customerPersistenceEntityRepository) {
+                                              CustomerPersistenceEntityRepository customerPersistenceEntityRepository,
+                                              EntityManager entityManager) {
         this.orderPersistenceEntityRepository = orderPersistenceEntityRepository;
         this.customerPersistenceEntityRepository = customerPersistenceEntityRepository;
+        this.entityManager = entityManager;
     }
 
     @BeforeEach
@@ -78,4 +83,15 @@ class OrderPersistenceEntityRepositoryIT {
         Assertions.assertThat(entity.getLastModifiedByUserId()).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldCreateCustomerPlacedAtIndex() {
+        @SuppressWarnings("unchecked")
+        List<String> indexedColumns = entityManager.createNativeQuery("""
+                        SELECT LOWER(column_name) FROM information_schema.index_columns
+                        WHERE LOWER(index_name) = 'idx_order_customer_id_placed_at'
+                        ORDER BY ordinal_position""")
+                .getResultList();
+
+        Assertions.assertThat(indexedColumns).containsExactly("customer_id", "placed_at");
+    }
+}
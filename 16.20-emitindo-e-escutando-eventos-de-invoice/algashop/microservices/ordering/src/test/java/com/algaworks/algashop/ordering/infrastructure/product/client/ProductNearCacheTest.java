@@ -0,0 +1,95 @@
+package com.algaworks.algashop.ordering.infrastructure.product.client;
+
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.domain.model.product.ProductTestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class ProductNearCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductNearCache nearCache;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new ProductNearCache(Duration.ofMinutes(5), 100);
+        nearCache.bindTo(meterRegistry);
+    }
+
+    @Test
+    public void shouldLoadProductOnceAndReportHitRatio() {
+        Product product = ProductTestDataBuilder.aProduct().build();
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            nearCache.get(product.id(), id -> {
+                calls.incrementAndGet();
+                return Optional.of(product);
+            });
+        }
+
+        Assertions.assertThat(calls).hasValue(1);
+        Assertions.assertThat(meterRegistry.get("algashop.product-catalog.cache.hit-ratio").gauge().value())
+                .isEqualTo(0.75);
+    }
+
+    @Test
+    public void shouldNotCacheMissingProduct() {
+        AtomicInteger calls = new AtomicInteger();
+        ProductId productId = new ProductId();
+
+        nearCache.get(productId, id -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<Product> product = nearCache.get(productId, id -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+
+        Assertions.assertThat(product).isEmpty();
+        Assertions.assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    public void shouldLoadOnlyMissingProductsInBulk() {
+        Product cached = ProductTestDataBuilder.aProductAltRamMemory().build();
+        Product notCached = ProductTestDataBuilder.aProductAltMousePad().build();
+        nearCache.get(cached.id(), id -> Optional.of(cached));
+
+        List<Set<? extends ProductId>> loads = new ArrayList<>();
+        Map<ProductId, Product> products = nearCache.getAll(List.of(cached.id(), notCached.id()), ids -> {
+            loads.add(Set.copyOf(ids));
+            return Map.of(notCached.id(), notCached);
+        });
+
+        Assertions.assertThat(products).containsOnlyKeys(cached.id(), notCached.id());
+        Assertions.assertThat(loads).containsExactly(Set.of(notCached.id()));
+    }
+
+    @Test
+    public void shouldReloadAfterInvalidation() {
+        Product product = ProductTestDataBuilder.aProduct().build();
+        AtomicInteger calls = new AtomicInteger();
+        Function<ProductId, Optional<Product>> loader = id -> {
+            calls.incrementAndGet();
+            return Optional.of(product);
+        };
+
+        nearCache.get(product.id(), loader);
+        nearCache.invalidate(product.id());
+        nearCache.get(product.id(), loader);
+
+        Assertions.assertThat(calls).hasValue(2);
+    }
+}
@@ -0,0 +1,106 @@
+package com.algaworks.algashop.ordering.infrastructure.product.client.http;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.product.Product;
+import com.algaworks.algashop.ordering.domain.model.product.ProductCatalogService;
+import com.algaworks.algashop.ordering.domain.model.product.ProductId;
+import com.algaworks.algashop.ordering.infrastructure.product.client.ProductNearCache;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+@SpringBootTest(properties = {
+        "algashop.integrations.product-catalog.provider=HTTP",
+        "algashop.integrations.product-catalog.batch-size=2"
+})
+class ProductCatalogServiceHttpImplIT {
+
+    private static final WireMockServer productCatalog = new WireMockServer(options()
+            .dynamicPort()
+            .mappingSource(new JsonFileMappingsSource(new SingleRootFileSource("../../etc/wiremock-product-catalog"), null)));
+
+    static {
+        productCatalog.start();
+    }
+
+    @Autowired
+    private ProductCatalogService productCatalogService;
+
+    @Autowired
+    private ProductNearCache productNearCache;
+
+    @DynamicPropertySource
+    static void productCatalogProperties(DynamicPropertyRegistry registry) {
+        registry.add("algashop.integrations.product-catalog.url", productCatalog::baseUrl);
+    }
+
+    @AfterAll
+    static void stopProductCatalog() {
+        productCatalog.stop();
+    }
+
+    @BeforeEach
+    public void setup() {
+        productCatalog.resetRequests();
+    }
+
+    @Test
+    public void shouldFindProductById() {
+        ProductId productId = new ProductId();
+
+        Optional<Product> product = productCatalogService.ofId(productId);
+
+        Assertions.assertThat(product).isPresent();
+        Assertions.assertThat(product.get().id()).isEqualTo(productId);
+        Assertions.assertThat(product.get().price()).isEqualTo(new Money("3000.00"));
+        Assertions.assertThat(product.get().inStock()).isTrue();
+    }
+
+    @Test
+    public void shouldFindProductsByIdsInBatches() {
+        List<ProductId> productIds = List.of(new ProductId(), new ProductId(), new ProductId());
+
+        Map<ProductId, Product> products = productCatalogService.ofIds(productIds);
+
+        Assertions.assertThat(products).containsOnlyKeys(productIds);
+        Assertions.assertThat(productCatalog.findAll(getRequestedFor(urlPathEqualTo("/api/products")))).hasSize(2);
+    }
+
+    @Test
+    public void shouldNotCallCatalogWithoutIds() {
+        Assertions.assertThat(productCatalogService.ofIds(List.of())).isEmpty();
+        Assertions.assertThat(productCatalog.findAll(getRequestedFor(urlPathEqualTo("/api/products")))).isEmpty();
+    }
+
+    @Test
+    public void shouldServeRepeatedLookupsFromNearCacheUntilInvalidated() {
+        ProductId productId = new ProductId();
+
+        productCatalogService.ofId(productId);
+        productCatalogService.ofId(productId);
+        productCatalogService.ofIds(List.of(productId));
+
+        Assertions.assertThat(productCatalog.findAll(getRequestedFor(urlPathEqualTo("/api/products")))).hasSize(1);
+
+        productNearCache.invalidate(productId);
+        productCatalogService.ofId(productId);
+
+        Assertions.assertThat(productCatalog.findAll(getRequestedFor(urlPathEqualTo("/api/products")))).hasSize(2);
+    }
+}
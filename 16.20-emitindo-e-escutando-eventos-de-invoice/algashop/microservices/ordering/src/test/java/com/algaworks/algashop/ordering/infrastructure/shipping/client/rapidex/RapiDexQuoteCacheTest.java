@@ -0,0 +1,133 @@
+package com.algaworks.algashop.ordering.infrastructure.shipping.client.rapidex;
+
+import com.algaworks.algashop.ordering.infrastructure.shipping.client.rapidex.RapiDexQuoteCache.QuoteKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RapiDexQuoteCacheTest {
+
+    private static final QuoteKey KEY = new QuoteKey("12345", "54321");
+
+    private SimpleMeterRegistry meterRegistry;
+    private RapiDexQuoteCache quoteCache;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        quoteCache = new RapiDexQuoteCache(meterRegistry, Duration.ofHours(1), 100, Duration.ofDays(1));
+    }
+
+    @Test
+    public void shouldLoadQuoteOnlyOncePerZipCodePair() {
+        AtomicInteger calls = new AtomicInteger();
+
+        quoteCache.get(KEY, () -> response(calls));
+        DeliveryCostResponse cached = quoteCache.get(KEY, () -> response(calls));
+        quoteCache.get(new QuoteKey("12345", "99999"), () -> response(calls));
+
+        Assertions.assertThat(cached.getEstimatedDaysToDeliver()).isEqualTo(3L);
+        Assertions.assertThat(calls).hasValue(2);
+        Assertions.assertThat(requests("hit")).isEqualTo(1);
+        Assertions.assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldCoalesceConcurrentRequestsForSamePair() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        List<Future<DeliveryCostResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> quoteCache.get(KEY, () -> {
+                    await(release);
+                    return response(calls);
+                })));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (requests("coalesced") < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (Future<DeliveryCostResponse> result : results) {
+                Assertions.assertThat(result.get(5, TimeUnit.SECONDS).getDeliveryCost()).isEqualTo("15.00");
+            }
+        }
+
+        Assertions.assertThat(calls).hasValue(1);
+        Assertions.assertThat(requests("coalesced")).isEqualTo(callers - 1);
+    }
+
+    @Test
+    public void shouldNotCacheFailedLoads() {
+        Assertions.assertThatIllegalStateException().isThrownBy(() ->
+                quoteCache.get(KEY, () -> {
+                    throw new IllegalStateException();
+                }));
+
+        AtomicInteger calls = new AtomicInteger();
+        quoteCache.get(KEY, () -> response(calls));
+
+        Assertions.assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void shouldReleaseWaitingCallersWhenLoaderThrowsError() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<DeliveryCostResponse> loader = executor.submit(() -> quoteCache.get(KEY, () -> {
+                await(release);
+                throw new NoClassDefFoundError();
+            }));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (requests("miss") < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Future<DeliveryCostResponse> waiter = executor.submit(() -> quoteCache.get(KEY, () -> response(new AtomicInteger())));
+            while (requests("coalesced") < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            Assertions.assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(NoClassDefFoundError.class);
+            Assertions.assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(NoClassDefFoundError.class);
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        quoteCache.get(KEY, () -> response(calls));
+
+        Assertions.assertThat(calls).hasValue(1);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("algashop.rapidex.quote.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static DeliveryCostResponse response(AtomicInteger calls) {
+        calls.incrementAndGet();
+        return new DeliveryCostResponse("15.00", 3L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
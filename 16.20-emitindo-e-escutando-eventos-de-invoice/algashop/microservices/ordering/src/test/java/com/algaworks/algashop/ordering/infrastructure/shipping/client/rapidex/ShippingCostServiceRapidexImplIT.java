@@ -0,0 +1,101 @@
+package com.algaworks.algashop.ordering.infrastructure.shipping.client.rapidex;
+
+import com.algaworks.algashop.ordering.domain.model.commons.Money;
+import com.algaworks.algashop.ordering.domain.model.commons.ZipCode;
+import com.algaworks.algashop.ordering.domain.model.order.shipping.ShippingCostService;
+import com.algaworks.algashop.ordering.domain.model.order.shipping.ShippingCostService.CalculationRequest;
+import com.algaworks.algashop.ordering.domain.model.order.shipping.ShippingCostService.CalculationResult;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+@SpringBootTest(properties = {
+        "algashop.integrations.shipping.provider=RAPIDEX",
+        "algashop.integrations.rapidex.read-timeout=PT0.5S",
+        "algashop.integrations.rapidex.circuit-breaker.sliding-window-size=4",
+        "algashop.integrations.rapidex.circuit-breaker.minimum-number-of-calls=4",
+        "algashop.integrations.rapidex.circuit-breaker.wait-in-open-state=PT1M"
+})
+class ShippingCostServiceRapidexImplIT {
+
+    private static final ZipCode ORIGIN = new ZipCode("12345");
+    private static final ZipCode SLOW_DESTINATION = new ZipCode("99998");
+    private static final ZipCode FAILING_DESTINATION = new ZipCode("99999");
+
+    private static final WireMockServer rapiDex = new WireMockServer(options()
+            .dynamicPort()
+            .mappingSource(new JsonFileMappingsSource(new SingleRootFileSource("../../etc/wiremock"), null)));
+
+    static {
+        rapiDex.start();
+    }
+
+    @Autowired
+    private ShippingCostService shippingCostService;
+
+    @Autowired
+    private CircuitBreaker rapiDexCircuitBreaker;
+
+    @DynamicPropertySource
+    static void rapiDexProperties(DynamicPropertyRegistry registry) {
+        registry.add("algashop.integrations.rapidex.url", rapiDex::baseUrl);
+    }
+
+    @AfterAll
+    static void stopRapiDex() {
+        rapiDex.stop();
+    }
+
+    @BeforeEach
+    public void setup() {
+        rapiDexCircuitBreaker.reset();
+        rapiDex.resetRequests();
+    }
+
+    @Test
+    public void shouldCalculateUsingRapiDex() {
+        CalculationResult result = shippingCostService.calculate(new CalculationRequest(ORIGIN, new ZipCode("54321")));
+
+        Assertions.assertThat(result.cost()).isEqualTo(new Money("35.00"));
+        Assertions.assertThat(result.expectedDate()).isEqualTo(LocalDate.now().plusDays(7));
+    }
+
+    @Test
+    public void givenSlowRapiDex_whenCalculate_shouldFallbackToFlatRateAfterReadTimeout() {
+        long start = System.nanoTime();
+
+        CalculationResult result = shippingCostService.calculate(new CalculationRequest(ORIGIN, SLOW_DESTINATION));
+
+        Assertions.assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        Assertions.assertThat(result.cost()).isEqualTo(new Money("20.00"));
+        Assertions.assertThat(result.expectedDate()).isEqualTo(LocalDate.now().plusDays(10));
+    }
+
+    @Test
+    public void givenFailingRapiDex_whenCalculateRepeatedly_shouldOpenCircuitAndStopCallingIt() {
+        for (int i = 0; i < 8; i++) {
+            CalculationResult result = shippingCostService.calculate(new CalculationRequest(ORIGIN, FAILING_DESTINATION));
+            Assertions.assertThat(result.cost()).isEqualTo(new Money("20.00"));
+        }
+
+        Assertions.assertThat(rapiDexCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        Assertions.assertThat(rapiDex.findAll(postRequestedFor(urlEqualTo("/api/delivery-cost"))
+                .withRequestBody(matchingJsonPath("$.destinationZipCode", equalTo(FAILING_DESTINATION.value())))))
+                .hasSize(4);
+    }
+}
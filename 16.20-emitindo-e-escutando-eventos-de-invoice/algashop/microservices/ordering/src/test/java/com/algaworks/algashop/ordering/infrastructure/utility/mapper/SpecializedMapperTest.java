@@ -0,0 +1,125 @@
+package com.algaworks.algashop.ordering.infrastructure.utility.mapper;
+
+import com.algaworks.algashop.ordering.application.customer.query.CustomerOutput;
+import com.algaworks.algashop.ordering.application.order.query.OrderDetailOutput;
+import com.algaworks.algashop.ordering.application.shoppingcart.query.ShoppingCartOutput;
+import com.algaworks.algashop.ordering.application.utility.Mapper;
+import com.algaworks.algashop.ordering.domain.model.customer.Customer;
+import com.algaworks.algashop.ordering.domain.model.customer.CustomerTestDataBuilder;
+import com.algaworks.algashop.ordering.infrastructure.persistence.commons.AddressEmbeddable;
+import com.algaworks.algashop.ordering.infrastructure.persistence.entity.OrderPersistenceEntityTestDataBuilder;
+import com.algaworks.algashop.ordering.infrastructure.persistence.entity.ShoppingCartPersistenceEntityTestDataBuilder;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.BillingEmbeddable;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.OrderPersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.RecipientEmbeddable;
+import com.algaworks.algashop.ordering.infrastructure.persistence.order.ShippingEmbeddable;
+import com.algaworks.algashop.ordering.infrastructure.persistence.shoppingcart.ShoppingCartPersistenceEntity;
+import com.algaworks.algashop.ordering.infrastructure.utility.modelmapper.ModelMapperConfig;
+import io.hypersistence.tsid.TSID;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+class SpecializedMapperTest {
+
+    private final Mapper specializedMapper = new SpecializedMapper();
+    private final Mapper modelMapper = new ModelMapperConfig().mapper();
+
+    @Test
+    public void shouldMapOrderLikeModelMapper() {
+        OrderPersistenceEntity order = OrderPersistenceEntityTestDataBuilder.existingOrder()
+                .paidAt(OffsetDateTime.now())
+                .billing(aBilling())
+                .shipping(aShipping())
+                .build();
+
+        OrderDetailOutput output = specializedMapper.convert(order, OrderDetailOutput.class);
+
+        Assertions.assertThat(output).usingRecursiveComparison()
+                .isEqualTo(modelMapper.convert(order, OrderDetailOutput.class));
+        Assertions.assertThat(output.getId()).isEqualTo(new TSID(order.getId()).toString());
+        Assertions.assertThat(output.getItems()).hasSize(2)
+                .allSatisfy(item -> Assertions.assertThat(item.getOrderId()).isEqualTo(output.getId()));
+    }
+
+    @Test
+    public void shouldMapOrderWithoutShippingAndBillingLikeModelMapper() {
+        OrderPersistenceEntity order = OrderPersistenceEntityTestDataBuilder.existingOrder().build();
+
+        Assertions.assertThat(specializedMapper.convert(order, OrderDetailOutput.class)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.convert(order, OrderDetailOutput.class));
+    }
+
+    @Test
+    public void shouldMapShoppingCartLikeModelMapper() {
+        ShoppingCartPersistenceEntity shoppingCart = ShoppingCartPersistenceEntityTestDataBuilder
+                .existingShoppingCart().build();
+
+        Assertions.assertThat(specializedMapper.convert(shoppingCart, ShoppingCartOutput.class))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.convert(shoppingCart, ShoppingCartOutput.class));
+    }
+
+    @Test
+    public void shouldMapCustomerLikeModelMapper() {
+        Customer customer = CustomerTestDataBuilder.existingCustomer().build();
+
+        Assertions.assertThat(specializedMapper.convert(customer, CustomerOutput.class))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.convert(customer, CustomerOutput.class));
+    }
+
+    @Test
+    public void shouldMapProxiedSourceThroughItsSuperclass() {
+        OrderPersistenceEntity order = new OrderPersistenceEntity() {};
+        order.setId(TSID.fast().toLong());
+
+        Assertions.assertThat(specializedMapper.convert(order, OrderDetailOutput.class).getId())
+                .isEqualTo(new TSID(order.getId()).toString());
+    }
+
+    @Test
+    public void shouldRejectUnknownConversion() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> specializedMapper.convert("text", OrderDetailOutput.class));
+    }
+
+    private static BillingEmbeddable aBilling() {
+        return BillingEmbeddable.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .document("225-09-1992")
+                .phone("123-911-1234")
+                .address(anAddress())
+                .build();
+    }
+
+    private static ShippingEmbeddable aShipping() {
+        return ShippingEmbeddable.builder()
+                .cost(new BigDecimal("10.00"))
+                .expectedDate(LocalDate.now().plusWeeks(1))
+                .recipient(RecipientEmbeddable.builder()
+                        .firstName("Mary")
+                        .lastName("Jones")
+                        .document("552-11-4333")
+                        .phone("54-454-1144")
+                        .build())
+                .address(anAddress())
+                .build();
+    }
+
+    private static AddressEmbeddable anAddress() {
+        return AddressEmbeddable.builder()
+                .street("Bourbon Street")
+                .number("1234")
+                .complement("apt. 11")
+                .neighborhood("North Ville")
+                .city("Yostfort")
+                .state("South Carolina")
+                .zipCode("79911")
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.algaworks.algashop.ordering.infrastructure.utility.virtualthread;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class ThreadFactoriesTest {
+
+    @Test
+    public void shouldCreateVirtualThreadsWhenEnabled() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true");
+
+        Thread thread = ThreadFactories.named(environment, "test-").newThread(() -> { });
+
+        Assertions.assertThat(thread.isVirtual()).isTrue();
+        Assertions.assertThat(thread.getName()).isEqualTo("test-0");
+    }
+
+    @Test
+    public void shouldCreateDaemonPlatformThreadsByDefault() {
+        Thread thread = ThreadFactories.named(new MockEnvironment(), "test-").newThread(() -> { });
+
+        Assertions.assertThat(thread.isVirtual()).isFalse();
+        Assertions.assertThat(thread.isDaemon()).isTrue();
+        Assertions.assertThat(thread.getName()).isEqualTo("test-0");
+    }
+}
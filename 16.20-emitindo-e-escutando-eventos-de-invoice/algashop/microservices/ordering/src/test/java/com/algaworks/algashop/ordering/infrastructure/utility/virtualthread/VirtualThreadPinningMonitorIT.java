@@ -0,0 +1,71 @@
+package com.algaworks.algashop.ordering.infrastructure.utility.virtualthread;
+
+import com.algaworks.algashop.ordering.infrastructure.listener.AsyncEventHandlerExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadPinningMonitorIT {
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private AsyncEventHandlerExecutor asyncEventHandlerExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void shouldMonitorPinningAndRunTasksOnVirtualThreadsWhenEnabled() throws Exception {
+        Future<Boolean> isVirtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual());
+
+        Assertions.assertThat(pinningMonitor.isRunning()).isTrue();
+        Assertions.assertThat(isVirtual.get()).isTrue();
+    }
+
+    @Test
+    public void shouldRunEventHandlersOnVirtualThreadsWhenEnabled() throws Exception {
+        CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+
+        asyncEventHandlerExecutor.execute("test", () -> isVirtual.complete(Thread.currentThread().isVirtual()));
+
+        Assertions.assertThat(isVirtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldCountPinnedVirtualThreads() throws Exception {
+        Object lock = new Object();
+
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(Duration.ofMillis(100));
+            }
+        }).join();
+
+        Awaitility.await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                Assertions.assertThat(meterRegistry.get("algashop.virtual-threads.pinned").counter().count())
+                        .isGreaterThanOrEqualTo(1));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}